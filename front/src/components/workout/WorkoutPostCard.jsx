@@ -2,7 +2,7 @@
 import React from 'react';
 import { Link } from 'react-router-dom';
 import { useTheme } from '../../context/ThemeContext';
-import { getWorkoutPostImageUrl } from '../../utils/imageUtils';
+import { getWorkoutPostVariantUrl } from '../../utils/imageUtils';
 
 const WorkoutPostCard = ({ post }) => {
   const { darkMode } = useTheme();
@@ -24,8 +24,9 @@ const WorkoutPostCard = ({ post }) => {
         {post.workoutPost.imageUrl && (
           <div className="relative h-48 overflow-hidden">
             <img 
-              src={getWorkoutPostImageUrl(post.workoutPost.imageUrl)}
+              src={getWorkoutPostVariantUrl(post, 'card')}
               alt={post.workoutPost.title}
+              loading="lazy"
               className="w-full h-full object-cover"
               onError={(e) => {
                 e.target.onerror = null;
@@ -50,7 +51,7 @@ const WorkoutPostCard = ({ post }) => {
           
           {/* 내용 미리보기 */}
           <p className={`text-sm mb-3 ${darkMode ? 'text-gray-300' : 'text-gray-600'}`}>
-            {truncateContent(post.workoutPost.content)}
+            {truncateContent(post.contentPreview ?? post.workoutPost.content)}
           </p>
           
           {/* 작성자 및 메타 정보 */}
@@ -73,7 +73,7 @@ export const AuthProvider = ({ children }) => {
       const response = await authAPI.login(credentials);
       console.log('로그인 성공:', response.data);
       
-      const { token, userId, email, nickname, profileImage, role } = response.data;
+      const { token, refreshToken, userId, email, nickname, profileImage, role } = response.data;
       
       // 사용자 정보 객체 생성
       const userData = {
@@ -85,6 +85,7 @@ export const AuthProvider = ({ children }) => {
       };
       
       localStorage.setItem('token', token);
+      localStorage.setItem('refreshToken', refreshToken);
       localStorage.setItem('user', JSON.stringify(userData));
       
       setUser(userData);
@@ -116,7 +117,18 @@ export const AuthProvider = ({ children }) => {
 
   // 로그아웃 처리
   const logout = () => {
+    // 서버 쪽 토큰 무효화 (실패해도 로컬 로그아웃은 진행)
+    const token = localStorage.getItem('token');
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (token) {
+      authAPI.logout(token, refreshToken).catch((err) => console.warn('로그아웃 요청 실패:', err));
+    }
+    if (!refreshToken) {
+      authAPI.revokeRefreshCookie().catch((err) => console.warn('리프레시 토큰 쿠키 폐기 실패:', err));
+    }
+
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
     setUser(null);
   };
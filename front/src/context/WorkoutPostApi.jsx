@@ -37,14 +37,19 @@ const workoutPostAPI = {
   },
   
   // 인기 게시글 목록 (좋아요 많은 순)
-  getPopularWorkoutPosts: (lastPostId, size = 10) => {
-    console.log(`인기 운동 인증 게시글 목록 API 호출 - 마지막ID: ${lastPostId}, 크기: ${size}`);
+  getPopularWorkoutPosts: (lastPostId, size = 10, lastLikeCount) => {
+    console.log(`인기 운동 인증 게시글 목록 API 호출 - 마지막ID: ${lastPostId}, 마지막 좋아요 수: ${lastLikeCount}, 크기: ${size}`);
     let url = `/workoutpost/popular?size=${size}`;
     
     if (lastPostId) {
       url += `&lastPostId=${lastPostId}`;
     }
     
+    // 좋아요 수 + 게시글 ID를 함께 커서로 사용
+    if (lastLikeCount !== null && lastLikeCount !== undefined) {
+      url += `&lastLikeCount=${lastLikeCount}`;
+    }
+    
     return api.get(url);
   },
   
@@ -54,13 +54,43 @@ api.interceptors.request.use(
   }
 );
 
-// 응답 인터셉터 - 401 오류 처리(인증 만료)
+// 인증 정보 삭제 후 로그인 페이지로 이동
+const clearAuthAndRedirect = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('user');
+  window.location.href = '/login';
+};
+
+// 진행 중인 토큰 재발급 요청 (동시에 여러 요청이 401을 받아도 한 번만 재발급)
+let refreshPromise = null;
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    // 소셜 로그인은 리프레시 토큰이 HttpOnly 쿠키에 있으므로 쿠키도 함께 전송
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshPromise = axios.post(`${API_BASE_URL}/auth/refresh`, { refreshToken }, { withCredentials: true })
+      .then((response) => {
+        localStorage.setItem('token', response.data.token);
+        if (response.data.refreshToken) {
+          localStorage.setItem('refreshToken', response.data.refreshToken);
+        }
+        return response.data.token;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
+// 응답 인터셉터 - 401 오류 처리(인증 만료 시 리프레시 토큰으로 재발급 후 재요청)
 api.interceptors.response.use(
   (response) => {
     console.log('응답 성공:', response.status, response.config.url);
     return response;
   },
-  (error) => {
+  async (error) => {
     console.error('API 오류:', error);
     
     if (error.response) {
@@ -69,10 +99,27 @@ api.interceptors.response.use(
       console.log('요청 URL:', error.config.url);
       
       if (error.response.status === 401) {
+        const originalRequest = error.config;
+        const canRefresh = (localStorage.getItem('refreshToken') || localStorage.getItem('token'))
+          && !originalRequest._retry
+          && !originalRequest.url.startsWith('/auth/');
+
+        if (canRefresh) {
+          originalRequest._retry = true;
+          try {
+            console.log('액세스 토큰 만료, 재발급 시도');
+            const token = await refreshAccessToken();
+            originalRequest.headers['Authorization'] = `Bearer ${token}`;
+            return api(originalRequest);
+          } catch (refreshError) {
+            console.log('토큰 재발급 실패, 로그아웃 처리');
+            clearAuthAndRedirect();
+            return Promise.reject(refreshError);
+          }
+        }
+
         console.log('인증 만료, 로그아웃 처리');
-        localStorage.removeItem('token');
-        localStorage.removeItem('user');
-        window.location.href = '/login';
+        clearAuthAndRedirect();
       }
     }
     
@@ -112,8 +159,8 @@ export const getImageUrl = (imagePath) => {
   const fullUrl = `${apiUrl}/${uploadsPath}/${profileImagesPath}/${imagePath}`;
   console.log('생성된 이미지 URL:', fullUrl);
   
-  // 캐싱 방지용 타임스탬프 추가
-  return `${fullUrl}?t=${new Date().getTime()}`;
+  // 업로드마다 파일명이 바뀌므로 (내용 해시) 캐시 방지용 타임스탬프 없이 그대로 사용
+  return fullUrl;
 };
 
 // 인증 관련 API
@@ -127,6 +174,14 @@ export const authAPI = {
     return api.post('/auth/login', credentials);
   },
   
+  // 로그아웃 (서버에서 토큰 무효화)
+  logout: (token, refreshToken) => api.post('/auth/logout', { refreshToken }, {
+    headers: { Authorization: `Bearer ${token}` }
+  }),
+
+  // 쿠키로 받은 리프레시 토큰 폐기 (소셜 로그인)
+  revokeRefreshCookie: () => api.delete('/auth/refresh', { withCredentials: true }),
+  
   // 소셜 로그인 URL 가져오기
   getKakaoLoginUrl: () => `${BACKEND_URL}/oauth2/authorization/kakao`,
   getNaverLoginUrl: () => `${BACKEND_URL}/oauth2/authorization/naver`,
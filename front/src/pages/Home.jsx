@@ -2,7 +2,7 @@ import React, { useContext, useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext'; // ✅ 변경: useAuth 훅 사용
 import { ThemeContext } from '../context/ThemeContext';
-import axios from 'axios';
+import api from '../context/apiService';
 import { FaBook, FaDumbbell, FaQuestion, FaCamera } from 'react-icons/fa';
 
 const FeatureCard = ({ icon, title, description, link, darkMode }) => (
@@ -32,7 +32,8 @@ const Home = () => {
       // 로딩 시작
       setLoading(true); 
   
-      axios.get('http://localhost:8080/api/cheerup/random')
+      // 토큰을 함께 보내 사용자별로 겹치지 않는 순서로 받음
+      api.get('/cheerup/random')
         .then(res => {
           console.log('Received cheerup:', res.data); // 명언 데이터 확인
           setCheerup(res.data);  // 명언 데이터를 cheerup 상태로 설정
@@ -18,7 +18,7 @@ const OAuthCallback = () => {
     
     const processOAuthLogin = async () => {
       try {
-        // URL에서 토큰과 사용자 정보 파라미터 추출
+        // URL에서 토큰과 사용자 정보 파라미터 추출 (리프레시 토큰은 HttpOnly 쿠키로 전달됨)
         const params = new URLSearchParams(location.search);
         const token = params.get('token');
         const userId = params.get('userId');
@@ -41,6 +41,7 @@ const OAuthCallback = () => {
         
         // 로컬 스토리지에 사용자 정보 저장
         localStorage.setItem('token', token);
+        localStorage.removeItem('refreshToken');
         
         const userData = {
           userId: userId,
@@ -4,7 +4,7 @@ import { useParams, useNavigate } from 'react-router-dom';
 import { useAuth } from '../../context/AuthContext';
 import { useTheme } from '../../context/ThemeContext';
 import workoutPostAPI from '../../context/WorkoutPostApi';
-import { getWorkoutPostImageUrl } from '../../utils/imageUtils';
+import { getWorkoutPostVariantUrl } from '../../utils/imageUtils';
 import { colors } from '../../styles/colors';
 import WorkoutPostEditForm from '../../components/workout/WorkoutPostEditForm';
 
@@ -248,7 +248,7 @@ const WorkoutPostDetailPage = () => {
             {post.workoutPost.imageUrl && (
               <div className="mb-6">
                 <img 
-                  src={getWorkoutPostImageUrl(post.workoutPost.imageUrl)}
+                  src={getWorkoutPostVariantUrl(post, 'full')}
                   alt={post.workoutPost.title}
                   className="w-full max-h-96 object-contain rounded-lg border shadow-sm"
                   onError={(e) => {
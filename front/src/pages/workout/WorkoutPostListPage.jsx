@@ -19,6 +19,7 @@ const WorkoutPostListPage = () => {
   const [error, setError] = useState(null);
   const [hasMore, setHasMore] = useState(true);
   const [lastPostId, setLastPostId] = useState(null);
+  const [lastLikeCount, setLastLikeCount] = useState(null);
   const [selectedCategory, setSelectedCategory] = useState('');
   const [isPopular, setIsPopular] = useState(false);
   
@@ -35,10 +36,11 @@ const WorkoutPostListPage = () => {
     try {
       // 초기화 시 lastPostId를 null로 설정
       const currentLastPostId = reset ? null : lastPostId;
+      const currentLastLikeCount = reset ? null : lastLikeCount;
       
       let response;
       if (isPopular) {
-        response = await workoutPostAPI.getPopularWorkoutPosts(currentLastPostId);
+        response = await workoutPostAPI.getPopularWorkoutPosts(currentLastPostId, 10, currentLastLikeCount);
       } else {
         response = await workoutPostAPI.getWorkoutPosts(currentLastPostId, 10, selectedCategory);
       }
@@ -48,6 +50,7 @@ const WorkoutPostListPage = () => {
       setPosts(prev => reset ? newPosts : [...prev, ...newPosts]);
       setHasMore(response.data.hasNext);
       setLastPostId(response.data.lastPostId);
+      setLastLikeCount(response.data.lastLikeCount ?? null);
     } catch (err) {
       console.error('게시글 로드 중 오류 발생:', err);
       setError('게시글을 불러오는 중 오류가 발생했습니다.');
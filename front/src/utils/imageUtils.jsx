@@ -15,4 +15,9 @@ export const getWorkoutPostImageUrl = (imageUrl) => {
   
   // 서버 URL과 함께 사용
   return `${apiUrl}/${uploadsPath}/${imageUrl}`;
-};
\ No newline at end of file
+};
+// 크기별 변형 이미지가 있으면 변형을, 없으면 원본 이미지 URL 사용
+export const getWorkoutPostVariantUrl = (post, variant) => {
+  const variantPath = post.imageVariants?.[variant];
+  return getWorkoutPostImageUrl(variantPath || post.workoutPost.imageUrl);
+};
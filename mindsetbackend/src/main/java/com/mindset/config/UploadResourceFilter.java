@@ -0,0 +1,156 @@
+package com.mindset.config;
+
+import com.mindset.service.storage.FileStorage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Pattern;
+
+/**
+ * /uploads/** 응답의 캐시 헤더와 무복사(sendfile) 전송 처리
+ * 내용 주소(SHA-256) 파일명은 내용이 바뀌지 않으므로 1년 immutable 캐시를 주고, 그 외 파일은 짧게 캐시한다.
+ * Range 요청이 아닌 일반 GET 이고 Tomcat이 sendfile을 지원하면 파일을 직접 넘겨 커널에서 바로 전송하게 하며,
+ * 나머지(Range, HEAD, 작은 파일)는 Spring 리소스 핸들러가 처리한다.
+ * 파일이 외부 저장소(S3 등)에 있으면 저장소 주소로 리다이렉트해 서버가 본문을 전송하지 않는다.
+ */
+public class UploadResourceFilter extends OncePerRequestFilter {
+
+    // "{SHA-256}.확장자" 또는 변형 이미지 "{SHA-256}_{변형}.jpg"
+    private static final Pattern CONTENT_ADDRESSED_NAME =
+            Pattern.compile("^[0-9a-f]{64}(_(thumb|card|full))?(\\.[a-z0-9]+)?$");
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String DEFAULT_CACHE_CONTROL = "public, max-age=3600";
+
+    // 사전 서명 URL은 만료되므로 리다이렉트 응답은 만료 전까지만 짧게 캐시
+    private static final String REDIRECT_CACHE_CONTROL = "private, max-age=300";
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_FILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String URL_PREFIX = "/uploads/";
+
+    private final FileStorage fileStorage;
+    private final Path uploadRoot;
+    private final long sendfileMinSize;
+
+    public UploadResourceFilter(FileStorage fileStorage, Path uploadRoot, long sendfileMinSize) {
+        this.fileStorage = fileStorage;
+        this.uploadRoot = uploadRoot.toAbsolutePath().normalize();
+        this.sendfileMinSize = sendfileMinSize;
+    }
+
+    /**
+     * 파일명으로 강한 ETag 생성 (내용 주소 파일명은 파일명 자체, 그 외는 크기와 수정 시각)
+     */
+    public static String etagFor(Resource resource) {
+        String fileName = resource.getFilename();
+        if (fileName != null && CONTENT_ADDRESSED_NAME.matcher(fileName).matches()) {
+            return fileName;
+        }
+
+        try {
+            return Long.toHexString(resource.contentLength()) + "-" + Long.toHexString(resource.lastModified());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String relativePath = resolveRelativePath(request);
+        if (relativePath == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 외부 저장소에 있는 파일은 저장소(CDN, 사전 서명 URL)에서 직접 받도록 함
+        String publicUrl = fileStorage.getPublicUrl(relativePath);
+        if (publicUrl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REDIRECT_CACHE_CONTROL);
+            response.sendRedirect(publicUrl);
+            return;
+        }
+
+        Path file = resolveFile(relativePath);
+        if (file == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String fileName = file.getFileName().toString();
+        boolean contentAddressed = CONTENT_ADDRESSED_NAME.matcher(fileName).matches();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, contentAddressed ? IMMUTABLE_CACHE_CONTROL : DEFAULT_CACHE_CONTROL);
+
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        boolean sendfile = "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))
+                && attrs.size() >= sendfileMinSize;
+        if (!sendfile) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 조건부 요청이면 304 (ETag, Last-Modified 헤더도 함께 설정됨)
+        String etag = contentAddressed
+                ? fileName
+                : Long.toHexString(attrs.size()) + "-" + Long.toHexString(attrs.lastModifiedTime().toMillis());
+        if (new ServletWebRequest(request, response).checkNotModified(etag, attrs.lastModifiedTime().toMillis())) {
+            return;
+        }
+
+        String contentType = request.getServletContext().getMimeType(fileName);
+        response.setContentType(contentType != null ? contentType : "application/octet-stream");
+        response.setContentLengthLong(attrs.size());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 본문은 쓰지 않고 Tomcat에 파일을 넘김 (응답 커밋 후 sendfile로 전송)
+        request.setAttribute(SENDFILE_FILENAME_ATTR, file.toString());
+        request.setAttribute(SENDFILE_FILE_START_ATTR, 0L);
+        request.setAttribute(SENDFILE_FILE_END_ATTR, attrs.size());
+    }
+
+    /**
+     * 요청 경로의 업로드 디렉토리 기준 상대 경로 (/uploads/ 아래가 아니거나 상위 경로를 가리키면 null)
+     */
+    private String resolveRelativePath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(URL_PREFIX)) {
+            return null;
+        }
+
+        String relativePath = URLDecoder.decode(path.substring(URL_PREFIX.length()), StandardCharsets.UTF_8);
+        if (relativePath.isEmpty() || relativePath.contains("..") || relativePath.contains("\\")) {
+            return null;
+        }
+        return relativePath;
+    }
+
+    /**
+     * 상대 경로에 해당하는 로컬 업로드 파일 (업로드 디렉토리 밖이거나 없으면 null)
+     */
+    private Path resolveFile(String relativePath) {
+        Path file = uploadRoot.resolve(relativePath).normalize();
+        if (!file.startsWith(uploadRoot) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+}
@@ -0,0 +1,80 @@
+package com.mindset.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단
+ * spring.threads.virtual.enabled=true 로 요청을 가상 스레드에서 처리할 때만 동작한다.
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 구독해 synchronized 블록 안의 블로킹 I/O(MySQL 드라이버 등)로
+ * 캐리어 스레드가 고정된 위치를 스택과 함께 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    // 로그에 남길 스택 프레임 수
+    private static final int MAX_FRAMES = 15;
+
+    private final boolean enabled;
+    private final long thresholdMs;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${diagnostics.virtual-thread-pinning.enabled:true}") boolean enabled,
+                                       @Value("${diagnostics.virtual-thread-pinning.threshold-ms:20}") long thresholdMs) {
+        this.enabled = enabled;
+        this.thresholdMs = thresholdMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::logPinnedEvent);
+        recordingStream.startAsync();
+
+        log.info("가상 스레드 고정 진단 시작 (기준: {}ms 이상)", thresholdMs);
+    }
+
+    private void logPinnedEvent(RecordedEvent event) {
+        String stackTrace = "";
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            stackTrace = frames.stream()
+                    .limit(MAX_FRAMES)
+                    .map(frame -> "\tat " + frame.getMethod().getType().getName() + "."
+                            + frame.getMethod().getName() + " (line " + frame.getLineNumber() + ")")
+                    .collect(Collectors.joining("\n"));
+        }
+
+        log.warn("가상 스레드 고정 감지 - {}ms, 스레드: {}\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                stackTrace);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
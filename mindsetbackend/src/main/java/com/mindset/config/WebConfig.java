@@ -1,14 +1,30 @@
 package com.mindset.config;
 
+import com.mindset.service.storage.FileStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final FileStorage fileStorage;
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
 
+    // 이보다 작은 파일은 sendfile 대신 일반 전송 (Tomcat DefaultServlet 기본값과 같음)
+    @Value("${uploads.sendfile.min-size:49152}")
+    private long sendfileMinSize;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -22,11 +38,28 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 절대 경로 사용
-        String uploadPath = System.getProperty("user.dir") + "/uploads/";
+        // 절대 경로 사용 (FileService와 같은 업로드 디렉토리)
+        String uploadPath = getUploadRoot().toString() + "/";
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadPath);
+                .addResourceLocations("file:" + uploadPath)
+                // 강한 ETag로 304 응답 (Range 요청은 리소스 핸들러가 처리)
+                .setEtagGenerator(UploadResourceFilter::etagFor);
 
         System.out.println("정적 리소스 경로 설정: " + uploadPath);
     }
+
+    /**
+     * 업로드 파일 캐시 헤더와 sendfile 전송 필터 (외부 저장소 사용 시 저장소 주소로 리다이렉트)
+     */
+    @Bean
+    public FilterRegistrationBean<UploadResourceFilter> uploadResourceFilter() {
+        FilterRegistrationBean<UploadResourceFilter> registration =
+                new FilterRegistrationBean<>(new UploadResourceFilter(fileStorage, getUploadRoot(), sendfileMinSize));
+        registration.addUrlPatterns("/uploads/*");
+        return registration;
+    }
+
+    private Path getUploadRoot() {
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
 }
\ No newline at end of file
@@ -3,13 +3,19 @@ package com.mindset.controller;
 import com.mindset.model.response.AuthResponse;
 import com.mindset.model.request.LoginRequest;
 import com.mindset.model.request.SignupRequest;
+import com.mindset.model.request.TokenRefreshRequest;
 import com.mindset.model.dto.User;
+import com.mindset.security.RefreshTokenCookie;
 import com.mindset.service.AuthService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
@@ -17,12 +23,13 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshTokenCookie refreshTokenCookie;
 
     /**
      * 회원가입 처리
      */
     @PostMapping("/signup")
-    public ResponseEntity<User> signup(@RequestBody SignupRequest signupRequest) {
+    public CompletableFuture<ResponseEntity<User>> signup(@RequestBody SignupRequest signupRequest) {
         log.info("회원가입 요청: {}", signupRequest.getEmail());
 
         // SignupRequest를 User로 변환
@@ -37,28 +44,66 @@ public class AuthController {
                 .postCode(signupRequest.getPostCode())
                 .build();
 
-        // 회원가입 처리
-        User savedUser = authService.signup(user);
-
-        // 비밀번호는 응답에서 제외
-        savedUser.setPassword(null);
+        // 회원가입 처리 (비밀번호 암호화는 전용 실행기에서 처리)
+        return authService.signup(user).thenApply(savedUser -> {
+            // 비밀번호는 응답에서 제외
+            savedUser.setPassword(null);
 
-        return ResponseEntity.ok(savedUser);
+            return ResponseEntity.ok(savedUser);
+        });
     }
 
     /**
      * 로그인 처리
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@RequestBody LoginRequest loginRequest) {
         log.info("로그인 요청: {}", loginRequest.getEmail());
 
-        // 로그인 처리 및 JWT 토큰 발급
-        AuthResponse authResponse = authService.login(loginRequest.getEmail(), loginRequest.getPassword());
+        // 로그인 처리 및 JWT 토큰 발급 (요청 스레드는 비밀번호 검증을 기다리지 않고 반환)
+        return authService.login(loginRequest.getEmail(), loginRequest.getPassword())
+                .thenApply(ResponseEntity::ok);
+    }
 
+    /**
+     * 액세스 토큰 재발급
+     * 요청 본문에 리프레시 토큰이 없으면 쿠키(소셜 로그인)의 리프레시 토큰을 사용하고, 새 리프레시 토큰도 쿠키로만 내려준다.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody(required = false) TokenRefreshRequest request,
+                                                @CookieValue(name = RefreshTokenCookie.NAME, required = false) String cookieRefreshToken,
+                                                HttpServletResponse response) {
+        if (request != null && StringUtils.hasText(request.getRefreshToken())) {
+            return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+        }
+
+        AuthResponse authResponse = authService.refresh(cookieRefreshToken);
+        refreshTokenCookie.write(response, authResponse.getRefreshToken());
+        authResponse.setRefreshToken(null);
         return ResponseEntity.ok(authResponse);
     }
 
+    /**
+     * 쿠키로 받은 리프레시 토큰 폐기 (로그아웃 시 호출, 쿠키 경로가 /api/auth/refresh로 제한되어 있어 별도 엔드포인트로 둠)
+     */
+    @DeleteMapping("/refresh")
+    public ResponseEntity<Void> revokeRefreshCookie(
+            @CookieValue(name = RefreshTokenCookie.NAME, required = false) String cookieRefreshToken,
+            HttpServletResponse response) {
+        authService.revokeRefreshToken(cookieRefreshToken);
+        refreshTokenCookie.clear(response);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 로그아웃 처리 (토큰 무효화)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) TokenRefreshRequest request) {
+        authService.logout(request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+
     // OAuth2 로그인 URL 엔드포인트
     @GetMapping("/oauth2/kakao/login")
     public ResponseEntity<String> getKakaoLoginUrl() {
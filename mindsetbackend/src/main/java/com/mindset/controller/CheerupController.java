@@ -1,6 +1,7 @@
 package com.mindset.controller;
 
 import com.mindset.model.dto.Cheerup;
+import com.mindset.security.SecurityUtils;
 import com.mindset.service.CheerupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -15,9 +16,13 @@ public class CheerupController {
     @Autowired
     private CheerupService cheerupService;
 
+    @Autowired
+    private SecurityUtils securityUtils;
+
     @GetMapping("/random")
     public ResponseEntity<Cheerup> getRandomCheerup() {
-        Cheerup cheerup = cheerupService.getRandomCheerup(); // 무작위 명언 가져오기
+        // 로그인한 사용자는 겹치지 않는 순서로, 아니면 무작위 명언 가져오기
+        Cheerup cheerup = cheerupService.getNextCheerup(securityUtils.findCurrentUserId());
         if (cheerup == null) {
             return ResponseEntity.notFound().build(); // 만약 명언이 없다면 404 상태 코드 반환
         }
@@ -1,14 +1,18 @@
 package com.mindset.controller;
 
 import com.mindset.model.request.MemoRequest;
+import com.mindset.model.response.CursorPageResponse;
 import com.mindset.model.response.MemoResponse;
 import com.mindset.service.MemoService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +30,18 @@ public class MemoController {
         return memoService.getMemoByUser(userId);
     }
 
+    // 사용자별 조회 (무한 스크롤, 커서 기반 페이징, 생성일 기준 기간 필터)
+    @GetMapping("/page/{userId}")
+    public CursorPageResponse<MemoResponse> getMemoPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastDate,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return memoService.getMemoPage(userId, lastId, lastDate, size, from, to);
+    }
+
     // 상세 보기
     @GetMapping("/detail/{memoId}")
     public MemoResponse getMemo(@PathVariable Long memoId){
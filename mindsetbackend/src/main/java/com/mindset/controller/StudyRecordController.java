@@ -1,11 +1,18 @@
 package com.mindset.controller;
 
+import com.mindset.model.dto.StudyDailyRollup;
 import com.mindset.model.request.StudyRecordRequest;
+import com.mindset.model.response.CursorPageResponse;
+import com.mindset.model.response.RecordStatsResponse;
 import com.mindset.model.response.StudyRecordResponse;
+import com.mindset.service.RecordStatsService;
 import com.mindset.service.StudyRecordService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -14,6 +21,7 @@ import java.util.List;
 public class StudyRecordController {
 
     private final StudyRecordService studyRecordService;
+    private final RecordStatsService recordStatsService;
 
     // 생성
     @PostMapping("/save")
@@ -27,6 +35,36 @@ public class StudyRecordController {
         return studyRecordService.getStudyRecordsByUser(userId);
     }
 
+    // 사용자별 기록 조회 (무한 스크롤, 커서 기반 페이징, 공부 일시 기준 기간 필터)
+    @GetMapping("/page/{userId}")
+    public CursorPageResponse<StudyRecordResponse> getStudyRecordPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastDate,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return studyRecordService.getStudyRecordPage(userId, lastId, lastDate, size, from, to);
+    }
+
+    // 현재 사용자의 기간별 공부 통계 (granularity: day, week, month / 과목별 합계 포함)
+    @GetMapping("/stats")
+    public RecordStatsResponse getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        return recordStatsService.getStudyStats(from, to, granularity);
+    }
+
+    // 일별/과목별 공부 합계 (차트용, 기본 최근 30일)
+    @GetMapping("/daily/{userId}")
+    public List<StudyDailyRollup> getDailyRollups(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return studyRecordService.getDailyRollups(userId, from, to);
+    }
+
     // 상세 조회
     @GetMapping("/detail/{recordId}")
     public StudyRecordResponse getStudyRecord(@PathVariable Long recordId) {
@@ -2,11 +2,15 @@ package com.mindset.controller;
 
 import com.mindset.model.dto.Todolist;
 import com.mindset.model.request.TodolistRequest;
+import com.mindset.model.response.CursorPageResponse;
 import com.mindset.model.response.TodolistResponse;
 import com.mindset.service.TodolistService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -28,6 +32,18 @@ public class TodolistController {
         return todolistService.getTodolistByUesr(userId);
     }
 
+    // 유저아이디에 해당하는 todo 조회 (무한 스크롤, 커서 기반 페이징, 생성일 기준 기간 필터)
+    @GetMapping("/page/{userId}")
+    public CursorPageResponse<TodolistResponse> getTodolistPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastDate,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return todolistService.getTodolistPage(userId, lastId, lastDate, size, from, to);
+    }
+
     // 상세보기
     @GetMapping("/detail/{todoId}")
     public TodolistResponse getTodolist(@PathVariable Long todoId){
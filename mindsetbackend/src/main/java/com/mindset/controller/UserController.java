@@ -41,11 +41,8 @@ public class UserController {
         if (userByEmail.isEmpty()) {
             log.info("이메일로 사용자를 찾지 못함. 소셜 로그인 사용자인지 확인: {}", email);
 
-            // 데이터베이스에 저장된 모든 사용자 중에서 유사한 사용자를 찾아봅니다
-            // 이 부분은 실제 프로덕션 환경에서는 성능 이슈가 있을 수 있으므로 주의해야 합니다
-            User user = userService.findAllUsers().stream()
-                    .filter(u -> u.getOauthProviderId() != null && email.contains(u.getOauthProviderId()))
-                    .findFirst()
+            // 소셜 로그인 토큰의 인증 이름은 OAuth 제공자 ID
+            User user = userService.findByOAuthProviderId(email)
                     .orElseThrow(() -> {
                         log.error("사용자를 찾을 수 없음: {}", email);
                         return new RuntimeException("사용자를 찾을 수 없습니다.");
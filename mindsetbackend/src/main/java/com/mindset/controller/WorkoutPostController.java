@@ -1,6 +1,8 @@
 package com.mindset.controller;
 
+import com.mindset.model.request.PresignedUploadRequest;
 import com.mindset.model.request.WorkoutPostRequest;
+import com.mindset.model.response.PresignedUploadResponse;
 import com.mindset.model.response.WorkoutPostListResponse;
 import com.mindset.model.response.WorkoutPostResponse;
 import com.mindset.service.WorkoutPostService;
@@ -24,6 +26,12 @@ public class WorkoutPostController {
         return ResponseEntity.ok(workoutPostService.savePost(request, file));
     }
 
+    // 게시글 이미지 직접 업로드 URL 발급 (업로드 후 imageKey를 게시글 저장 요청에 포함)
+    @PostMapping("/image/presign")
+    public ResponseEntity<PresignedUploadResponse> presignImageUpload(@RequestBody PresignedUploadRequest request) {
+        return ResponseEntity.ok(workoutPostService.createImageUpload(request));
+    }
+
     // 내가 쓴 게시글 목록
     @GetMapping("/user/{userId}")
     public ResponseEntity<WorkoutPostListResponse> getUserPosts(
@@ -46,8 +54,9 @@ public class WorkoutPostController {
     @GetMapping("/popular")
     public ResponseEntity<WorkoutPostListResponse> getPopularPosts(
             @RequestParam(required = false) Long lastPostId,
+            @RequestParam(required = false) Integer lastLikeCount,
             @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(workoutPostService.getPopularPosts(lastPostId, size));
+        return ResponseEntity.ok(workoutPostService.getPopularPosts(lastPostId, lastLikeCount, size));
     }
 
     // 게시글 상세 조회 (조회수 증가 포함)
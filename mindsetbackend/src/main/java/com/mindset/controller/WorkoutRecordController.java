@@ -1,11 +1,18 @@
 package com.mindset.controller;
 
+import com.mindset.model.dto.WorkoutDailyRollup;
 import com.mindset.model.request.WorkoutRecordRequest;
+import com.mindset.model.response.CursorPageResponse;
+import com.mindset.model.response.RecordStatsResponse;
 import com.mindset.model.response.WorkoutRecordResponse;
+import com.mindset.service.RecordStatsService;
 import com.mindset.service.WorkoutRecordService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -13,6 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WorkoutRecordController {
     private final WorkoutRecordService workRecordService;
+    private final RecordStatsService recordStatsService;
     // 생성
     @PostMapping("/save")
     public WorkoutRecordResponse createWorkRecord(@RequestBody WorkoutRecordRequest workoutRecordRequest){
@@ -23,6 +31,33 @@ public class WorkoutRecordController {
     public List<WorkoutRecordResponse> getWorkRecordByUser(@PathVariable Long userId){
         return workRecordService.getWorkRecordByUser(userId);
     }
+    // 사용자별 기록 조회 (무한 스크롤, 커서 기반 페이징, 운동 날짜 기준 기간 필터)
+    @GetMapping("/page/{userId}")
+    public CursorPageResponse<WorkoutRecordResponse> getWorkRecordPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastDate,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return workRecordService.getWorkRecordPage(userId, lastId, lastDate, size, from, to);
+    }
+    // 현재 사용자의 기간별 운동 통계 (granularity: day, week, month / 운동 종류별 합계 포함)
+    @GetMapping("/stats")
+    public RecordStatsResponse getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity){
+        return recordStatsService.getWorkoutStats(from, to, granularity);
+    }
+    // 일별/운동 종류별 합계 (차트용, 기본 최근 30일)
+    @GetMapping("/daily/{userId}")
+    public List<WorkoutDailyRollup> getDailyRollups(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return workRecordService.getDailyRollups(userId, from, to);
+    }
     // 상세 보기
     @GetMapping("/detail/{workoutId}")
     public WorkoutRecordResponse getWorkRecord(@PathVariable Long workoutId){
@@ -4,8 +4,11 @@ import com.mindset.model.dto.Cheerup;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Select;
 
+import java.util.List;
+
 @Mapper
 public interface CheerupMapper {
-    @Select(value = "SELECT * FROM cheerup ORDER BY RAND() LIMIT 1")
-    Cheerup getRandomCheerup();
+    // 전체 명언 조회 (메모리 캐시 적재용, 새로 불러와도 순서가 바뀌지 않도록 정렬)
+    @Select(value = "SELECT content, author FROM cheerup ORDER BY content, author")
+    List<Cheerup> findAll();
 }
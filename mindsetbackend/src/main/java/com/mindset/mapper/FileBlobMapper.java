@@ -0,0 +1,39 @@
+package com.mindset.mapper;
+
+import com.mindset.model.dto.FileBlob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface FileBlobMapper {
+
+    /**
+     * 참조 추가 (처음 저장된 파일이면 참조 수 1로 등록)
+     */
+    int acquire(FileBlob fileBlob);
+
+    /**
+     * 참조 해제 (참조 수 1 감소, 등록되지 않은 파일이면 0 반환)
+     */
+    int release(String path);
+
+    /**
+     * 참조 수가 0이 된 뒤 cutoff 이전부터 변경이 없는 파일 (정리 대상, 오래된 순)
+     */
+    List<FileBlob> findReleasable(@Param("cutoff") LocalDateTime cutoff,
+                                  @Param("limit") int limit);
+
+    /**
+     * 등록된 파일 경로 전체 (등록되지 않은 파일 정리용)
+     */
+    List<String> findAllPaths();
+
+    /**
+     * 정리 대상 등록 정보 제거 (그 사이 다시 참조되었으면 0 반환)
+     */
+    int deleteIfReleasable(@Param("path") String path,
+                           @Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,7 +2,9 @@ package com.mindset.mapper;
 
 import com.mindset.model.dto.Memo;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -10,6 +12,15 @@ public interface MemoMapper {
 
     List<Memo> findAllByUserId(Long userId);
 
+    // 사용자별 메모 조회 (무한 스크롤, 커서 기반 페이징, 생성일 범위 from 이상 to 미만)
+    // 기간이 없으면 memo_id 역순, 기간이 있으면 (created_at, memo_id) 역순 (커서는 마지막 memo_id, 기간이 있으면 created_at도 함께)
+    List<Memo> findPageByUserId(@Param("userId") Long userId,
+                                @Param("lastId") Long lastId,
+                                @Param("lastDate") LocalDateTime lastDate,
+                                @Param("size") int size,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
     Memo findByMemoId(Long memoId);
 
     void createMemo(Memo memo);
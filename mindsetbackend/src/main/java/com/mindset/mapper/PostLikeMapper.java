@@ -13,6 +13,11 @@ public interface PostLikeMapper {
      */
     int createPostLike(PostLike postLike);
 
+    /**
+     * 좋아요가 없을 때만 추가 ((post_id, user_id) 유니크 키로 중복이면 무시, 추가된 행 수 반환)
+     */
+    int createPostLikeIfAbsent(PostLike postLike);
+
     /**
      * 게시글별 좋아요 조회
      */
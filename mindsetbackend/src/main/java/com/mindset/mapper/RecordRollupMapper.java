@@ -0,0 +1,58 @@
+package com.mindset.mapper;
+
+import com.mindset.model.dto.RecordStatsRow;
+import com.mindset.model.dto.StudyDailyRollup;
+import com.mindset.model.dto.WorkoutDailyRollup;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface RecordRollupMapper {
+
+    /**
+     * 사용자/날짜/과목별 공부 합계에 증감분 반영 (행이 없으면 생성)
+     */
+    int addStudyRollup(StudyDailyRollup delta);
+
+    /**
+     * 사용자/날짜/운동 종류별 운동 합계에 증감분 반영 (행이 없으면 생성)
+     */
+    int addWorkoutRollup(WorkoutDailyRollup delta);
+
+    /**
+     * 기간 내 일별 공부 합계 조회 (from, to 포함)
+     */
+    List<StudyDailyRollup> findStudyRollups(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * 기간 내 일별 운동 합계 조회 (from, to 포함)
+     */
+    List<WorkoutDailyRollup> findWorkoutRollups(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * 기간 내 구간별/과목별 공부 합계 (granularity: day, week, month)
+     */
+    List<RecordStatsRow> findStudyStats(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("granularity") String granularity);
+
+    /**
+     * 기간 내 구간별/운동 종류별 운동 합계 (granularity: day, week, month)
+     */
+    List<RecordStatsRow> findWorkoutStats(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("granularity") String granularity);
+}
@@ -0,0 +1,25 @@
+package com.mindset.mapper;
+
+import com.mindset.model.dto.RevokedToken;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface RevokedTokenMapper {
+
+    /**
+     * 무효화 토큰 추가 (이미 있으면 무시)
+     */
+    int insertRevokedToken(RevokedToken revokedToken);
+
+    /**
+     * 아직 만료되지 않은 무효화 토큰 전체 조회
+     */
+    List<RevokedToken> findAllActive();
+
+    /**
+     * 만료된 무효화 토큰 삭제
+     */
+    int deleteExpired();
+}
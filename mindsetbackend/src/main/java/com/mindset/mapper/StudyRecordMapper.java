@@ -2,7 +2,9 @@ package com.mindset.mapper;
 
 import com.mindset.model.dto.StudyRecord;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -11,7 +13,16 @@ public interface StudyRecordMapper {
 
     List<StudyRecord> findAllByUserId(Long userId);
 
+    // 사용자별 기록 조회 (무한 스크롤, 커서 기반 페이징, 공부 일시(시작 시간, 없으면 생성일) 범위 from 이상 to 미만)
+    // 기간이 없으면 record_id 역순, 기간이 있으면 (studied_at, record_id) 역순 (커서는 마지막 record_id, 기간이 있으면 studied_at도 함께)
+    List<StudyRecord> findPageByUserId(@Param("userId") Long userId,
+                                       @Param("lastId") Long lastId,
+                                       @Param("lastDate") LocalDateTime lastDate,
+                                       @Param("size") int size,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
     StudyRecord findByRecordId(Long recordId);
 
-    void deleteStudyRecord(Long recordId);
+    int deleteStudyRecord(Long recordId);
 }
@@ -3,7 +3,9 @@ package com.mindset.mapper;
 import com.mindset.model.dto.Todolist;
 import com.mindset.model.response.TodolistResponse;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -13,6 +15,15 @@ public interface TodolistMapper {
 
     List<Todolist> findAllByUserId(Long userId);
 
+    // 사용자별 todo 조회 (무한 스크롤, 커서 기반 페이징, 생성일 범위 from 이상 to 미만)
+    // 기간이 없으면 todo_id 역순, 기간이 있으면 (created_at, todo_id) 역순 (커서는 마지막 todo_id, 기간이 있으면 created_at도 함께)
+    List<Todolist> findPageByUserId(@Param("userId") Long userId,
+                                    @Param("lastId") Long lastId,
+                                    @Param("lastDate") LocalDateTime lastDate,
+                                    @Param("size") int size,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
     Todolist findTodolistById(Long todoId);
 
     void updateTodolistStatus(Long todoId, Boolean isCompleted);
@@ -13,6 +13,7 @@ public interface UserMapper {
     User findByEmail(String email);
     User findById(Long userId);
     User findByOAuth(@Param("provider") String provider, @Param("providerId") String providerId);
+    User findByOAuthProviderId(String providerId);
     List<User> findAll();
 
     // 사용자 저장
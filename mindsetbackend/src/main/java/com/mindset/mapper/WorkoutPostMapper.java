@@ -1,9 +1,11 @@
 package com.mindset.mapper;
 
 import com.mindset.model.dto.WorkoutPost;
+import com.mindset.model.dto.WorkoutPostFeed;
 import org.apache.ibatis.annotations.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface WorkoutPostMapper {
@@ -19,34 +21,30 @@ public interface WorkoutPostMapper {
     WorkoutPost findWorkoutPostById(Long postId);
 
     /**
-     * 모든 게시글 조회 (무한 스크롤, 커서 기반 페이징)
+     * 게시글 좋아요 수 조회 (게시글이 없으면 null)
      */
-    List<WorkoutPost> findAll(
-            @Param("lastPostId") Long lastPostId,
-            @Param("size") int size);
+    Integer findLikeCount(Long postId);
 
     /**
-     * 카테고리별 게시글 조회 (무한 스크롤, 커서 기반 페이징)
+     * 게시글 목록 조회 (작성자 정보와 좋아요 여부 포함, 무한 스크롤, 커서 기반 페이징)
+     * category, userId가 null이면 해당 조건 없이 조회, viewerId가 null이면 좋아요 여부는 모두 false
      */
-    List<WorkoutPost> findAllByCategory(
+    List<WorkoutPostFeed> findFeed(
             @Param("lastPostId") Long lastPostId,
             @Param("size") int size,
-            @Param("category") String category);
-
-    /**
-     * 사용자별 게시글 조회 (무한 스크롤, 커서 기반 페이징)
-     */
-    List<WorkoutPost> findAllByUserId(
+            @Param("category") String category,
             @Param("userId") Long userId,
-            @Param("lastPostId") Long lastPostId,
-            @Param("size") int size);
+            @Param("viewerId") Long viewerId);
 
     /**
-     * 인기 게시글 조회 (좋아요 순, 무한 스크롤, 커서 기반 페이징)
+     * 인기 게시글 목록 조회 (작성자 정보와 좋아요 여부 포함, 좋아요 순, 커서 기반 페이징)
+     * 정렬 기준과 같은 (좋아요 수, 게시글 ID)를 커서로 사용
      */
-    List<WorkoutPost> findPopularPosts(
+    List<WorkoutPostFeed> findPopularFeed(
+            @Param("lastLikeCount") Integer lastLikeCount,
             @Param("lastPostId") Long lastPostId,
-            @Param("size") int size);
+            @Param("size") int size,
+            @Param("viewerId") Long viewerId);
 
     /**
      * 게시글 수정
@@ -63,6 +61,11 @@ public interface WorkoutPostMapper {
      */
     int incrementViewCount(Long postId);
 
+    /**
+     * 여러 게시글 조회수 일괄 증가 (게시글 ID -> 증가량)
+     */
+    int addViewCounts(@Param("deltas") Map<Long, Long> deltas);
+
     /**
      * 좋아요 수 증가
      */
@@ -72,4 +75,9 @@ public interface WorkoutPostMapper {
      * 좋아요 수 감소
      */
     int decrementLikeCount(Long postId);
+
+    /**
+     * 여러 게시글 좋아요 수 일괄 증감 (게시글 ID -> 증감분, 0 미만으로 내려가지 않음)
+     */
+    int addLikeCounts(@Param("deltas") Map<Long, Long> deltas);
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.mindset.mapper;
 
 import com.mindset.model.dto.WorkoutRecord;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -11,9 +13,18 @@ public interface WorkoutRecordMapper {
 
     List<WorkoutRecord> findAllByUserId(Long userId);
 
+    // 사용자별 기록 조회 (무한 스크롤, 커서 기반 페이징, 운동 날짜 범위 from ~ to 포함)
+    // 기간이 없으면 workout_id 역순, 기간이 있으면 (workout_date, workout_id) 역순 (커서는 마지막 workout_id, 기간이 있으면 workout_date도 함께)
+    List<WorkoutRecord> findPageByUserId(@Param("userId") Long userId,
+                                         @Param("lastId") Long lastId,
+                                         @Param("lastDate") LocalDate lastDate,
+                                         @Param("size") int size,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
     WorkoutRecord findByWorkRecordId(Long workoutId);
 
-    public void deleteWorkRecord(Long workoutId);
+    public int deleteWorkRecord(Long workoutId);
 
 
 }
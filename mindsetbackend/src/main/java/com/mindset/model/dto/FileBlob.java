@@ -0,0 +1,22 @@
+package com.mindset.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 내용 주소(SHA-256) 기반으로 저장된 업로드 파일과 참조 수
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FileBlob {
+    private String path;            // 업로드 디렉토리 기준 상대 경로 (하위 디렉토리/SHA-256.확장자)
+    private String sha256;          // 파일 내용 SHA-256 (16진수, 내용 주소 저장 이전 파일은 빈 문자열)
+    private Long size;              // 파일 크기 (바이트, 내용 주소 저장 이전 파일은 0)
+    private Integer refCount;       // 이 파일을 참조하는 게시글/프로필 수
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
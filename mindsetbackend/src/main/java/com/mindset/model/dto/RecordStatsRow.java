@@ -0,0 +1,21 @@
+package com.mindset.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 기간/분류별 합계 조회 결과 한 행
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordStatsRow {
+    private LocalDate periodStart; // 구간 시작일 (일/주(월요일)/월(1일))
+    private String category; // 과목 또는 운동 종류
+    private int totalMinutes; // 시간 합계 (분 단위)
+    private Integer totalCalories; // 칼로리 합계 (운동만, 공부는 null)
+    private int recordCount; // 기록 수
+}
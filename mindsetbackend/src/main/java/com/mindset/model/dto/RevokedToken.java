@@ -0,0 +1,20 @@
+package com.mindset.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 무효화된 JWT 토큰 (로그아웃, 리프레시 토큰 교체)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+    private String tokenId;             // 토큰 ID (jti)
+    private Long userId;                // 유저 (FK)
+    private LocalDateTime expiresAt;    // 토큰 원래 만료 시각 (이후에는 목록에서 제거)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,18 @@
+package com.mindset.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 업로드 디렉토리에 저장된 파일 정보
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoredFile {
+    private String fileName;        // 저장된 파일명
+    private String path;            // 업로드 디렉토리 기준 상대 경로 (하위 디렉토리/파일명)
+    private String sha256;          // 파일 내용 SHA-256 (16진수)
+    private long size;              // 파일 크기 (바이트)
+}
@@ -0,0 +1,20 @@
+package com.mindset.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyDailyRollup {
+    private long userId; // 사용자 FK
+    private LocalDate statDate; // 공부한 날짜
+    private String subject; // 과목
+    private int totalMinutes; // 공부 시간 합계 (분 단위)
+    private int recordCount; // 기록 수
+}
@@ -0,0 +1,21 @@
+package com.mindset.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutDailyRollup {
+    private long userId; // 사용자 FK
+    private LocalDate statDate; // 운동한 날짜
+    private String workoutType; // 운동 종류
+    private int totalMinutes; // 운동 시간 합계 (분 단위)
+    private int totalCalories; // 소모 칼로리 합계
+    private int recordCount; // 기록 수
+}
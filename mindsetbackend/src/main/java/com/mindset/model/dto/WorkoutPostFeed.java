@@ -0,0 +1,29 @@
+package com.mindset.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회용 (작성자, 좋아요 여부를 한 번의 쿼리로 함께 조회)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkoutPostFeed {
+    private Long postId;
+    private Long userId;                // 유저(FK)
+    private String title;               // 제목
+    private String contentPreview;      // 본문 미리보기 (본문 전체는 상세 조회에서만)
+    private String workoutCategory;     // 운동종류
+    private String imageUrl;            // 이미지 URL
+    private int viewCount;              // 조회수
+    private int likeCount;              // 좋아요수
+    private LocalDateTime createdAt;    // 생성일
+    private LocalDateTime updatedAt;    // 수정일
+    private String authorName;          // 작성자 닉네임
+    private String authorProfileImage;  // 작성자 프로필 이미지
+    private boolean liked;              // 조회한 사용자의 좋아요 여부
+}
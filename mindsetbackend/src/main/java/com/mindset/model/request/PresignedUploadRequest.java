@@ -0,0 +1,17 @@
+package com.mindset.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PresignedUploadRequest {
+    private String fileName;        // 원본 파일명 (확장자 추출용)
+    private String contentType;     // 이미지 MIME 타입
+    private long size;              // 파일 크기 (바이트)
+    private String sha256;          // 파일 내용 SHA-256 (16진수, 클라이언트에서 계산)
+}
@@ -0,0 +1,17 @@
+package com.mindset.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 재발급/로그아웃 요청 데이터를 담는 DTO 클래스
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRefreshRequest {
+    private String refreshToken;    // 리프레시 토큰
+}
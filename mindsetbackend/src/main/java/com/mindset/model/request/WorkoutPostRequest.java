@@ -15,4 +15,5 @@ public class WorkoutPostRequest {
     private String content;         // 내용
     private String workoutCategory; // 운동종류
     private String imageUrl;        // 이미지 URL
+    private String imageKey;        // 직접 업로드한 이미지 키 (사전 서명 URL로 저장소에 올린 경우)
 }
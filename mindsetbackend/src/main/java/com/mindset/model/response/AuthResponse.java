@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuthResponse {
-    private String token;           // JWT 토큰
+    private String token;           // JWT 액세스 토큰
+    private String refreshToken;    // 액세스 토큰 재발급용 리프레시 토큰
     private Long userId;            // 사용자 ID
     private String email;           // 사용자 이메일
     private String nickname;        // 사용자 닉네임
@@ -0,0 +1,76 @@
+package com.mindset.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (무한 스크롤)
+ * 다음 페이지는 lastId를 그대로 넘겨 요청한다. (게시글 목록의 lastPostId와 같은 방식)
+ * 날짜 순으로 정렬되는 기간 조회는 lastDate도 함께 넘긴다. (인기 게시글의 lastLikeCount와 같은 방식)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+
+    // 한 페이지 최대 크기
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;      // 현재 페이지 항목
+    private boolean hasNext;    // 다음 페이지 존재 여부
+    private Long lastId;        // 현재 페이지의 마지막 항목 ID (다음 요청의 커서)
+    private LocalDateTime lastDate; // 현재 페이지의 마지막 항목 정렬 날짜 (기간 조회 시 다음 요청의 커서, 날짜만 있으면 자정)
+
+    /**
+     * 요청 크기를 1 ~ MAX_SIZE로 제한
+     */
+    public static int normalizeSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * size + 1개 조회 결과로 페이지 생성 (초과분이 있으면 hasNext)
+     *
+     * @param rows     size + 1개까지 조회한 결과 (ID 내림차순)
+     * @param idOf     항목의 ID (커서)
+     * @param toItem   응답 항목 변환
+     */
+    public static <R, T> CursorPageResponse<T> of(List<R> rows, int size, Function<R, Long> idOf, Function<R, T> toItem) {
+        return of(rows, size, idOf, row -> null, toItem);
+    }
+
+    /**
+     * size + 1개 조회 결과로 페이지 생성 (초과분이 있으면 hasNext)
+     *
+     * @param rows     size + 1개까지 조회한 결과 ((날짜, ID) 또는 ID 내림차순)
+     * @param idOf     항목의 ID (커서)
+     * @param dateOf   항목의 정렬 날짜 (기간 조회 커서)
+     * @param toItem   응답 항목 변환
+     */
+    public static <R, T> CursorPageResponse<T> of(List<R> rows, int size, Function<R, Long> idOf,
+                                                  Function<R, LocalDateTime> dateOf, Function<R, T> toItem) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<T> items = new ArrayList<>(pageRows.size());
+        for (R row : pageRows) {
+            items.add(toItem.apply(row));
+        }
+
+        R lastRow = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .lastId(lastRow != null ? idOf.apply(lastRow) : null)
+                .lastDate(lastRow != null ? dateOf.apply(lastRow) : null)
+                .build();
+    }
+}
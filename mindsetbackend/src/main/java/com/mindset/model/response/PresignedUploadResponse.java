@@ -0,0 +1,22 @@
+package com.mindset.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PresignedUploadResponse {
+    private String key;                     // 업로드 후 게시글 저장 시 함께 보낼 이미지 키
+    private boolean uploadRequired;         // false면 같은 내용이 이미 저장되어 있어 업로드 생략 가능
+    private String uploadUrl;               // 사전 서명 업로드 URL
+    private String method;                  // 업로드 HTTP 메서드 (PUT)
+    private Map<String, String> headers;    // 업로드 요청에 그대로 넣어야 하는 헤더 (서명에 포함됨)
+    private Instant expiresAt;              // URL 만료 시각
+}
@@ -0,0 +1,46 @@
+package com.mindset.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecordStatsResponse {
+    private LocalDate from;                 // 조회 시작일 (구간 시작에 맞춤)
+    private LocalDate to;                   // 조회 종료일
+    private String granularity;             // day, week, month
+    private int totalMinutes;               // 전체 시간 합계 (분 단위)
+    private Integer totalCalories;          // 전체 칼로리 합계 (운동만)
+    private int recordCount;                // 전체 기록 수
+    private List<Period> periods;           // 구간별 합계 (기록이 있는 구간만)
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Period {
+        private LocalDate periodStart;      // 구간 시작일
+        private int totalMinutes;
+        private Integer totalCalories;
+        private int recordCount;
+        private List<Breakdown> breakdown;  // 과목별/운동 종류별 합계
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Breakdown {
+        private String category;            // 과목 또는 운동 종류
+        private int totalMinutes;
+        private Integer totalCalories;
+        private int recordCount;
+    }
+}
@@ -16,6 +16,7 @@ public class WorkoutPostListResponse {
     private List<WorkoutPostResponse> posts;  // WorkoutPost에서 WorkoutPostResponse로 변경
     private boolean hasNext;    // 다음 페이지 존재 여부
     private Long lastPostId;    // 현재 페이지의 마지막 게시글 ID
+    private Integer lastLikeCount; // 현재 페이지의 마지막 게시글 좋아요 수 (인기 게시글 목록에서 lastPostId와 함께 커서로 사용)
 
     // 기존 필드도 유지 (하위 호환성)
     private int totalPages;
@@ -6,13 +6,18 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class WorkoutPostResponse {
     private WorkoutPost workoutPost;
+    private String contentPreview;  // 본문 미리보기 (목록 조회 시에만 포함, 이때 workoutPost.content는 비어 있음)
     private String authorName;      // 작성자 이름
+    private String authorProfileImage; // 작성자 프로필 이미지 (목록 조회 시에만 포함, 썸네일이 있으면 썸네일)
+    private Map<String, String> imageVariants; // 게시글 이미지 크기별 변형 (thumb, card, full -> 상대 경로, 만들어진 것만 포함)
     private boolean likedByUser;    // 현재 사용자가 좋아요 눌렀는지 여부
 }
 
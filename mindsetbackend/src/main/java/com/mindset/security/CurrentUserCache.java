@@ -0,0 +1,95 @@
+package com.mindset.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mindset.model.dto.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자 정보 캐시
+ * 같은 요청 안에서는 요청 속성에 담아 한 번만 조회하고, 요청 사이에는 JWT subject(이메일 또는 OAuth 제공자 ID)를 키로
+ * 짧은 시간 동안만 보관한다. 사용자 정보가 바뀌면 UserService에서 evict를 호출한다 (트랜잭션 커밋 후에도 다시 제거).
+ */
+@Component
+public class CurrentUserCache {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = CurrentUserCache.class.getName() + ".";
+
+    private final Cache<String, User> cache;
+
+    public CurrentUserCache(@Value("${security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${security.user-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * subject에 해당하는 사용자 조회 (요청 내 캐시 -> 공용 캐시 -> loader 순서)
+     *
+     * @return 사용자 정보, loader가 찾지 못하면 null (null은 캐시하지 않음)
+     */
+    public User get(String subject, Function<String, User> loader) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + subject;
+
+        if (requestAttributes != null) {
+            Object memo = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (memo instanceof User) {
+                return (User) memo;
+            }
+        }
+
+        User user = cache.get(subject, loader);
+
+        if (requestAttributes != null && user != null) {
+            requestAttributes.setAttribute(attributeName, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    /**
+     * 사용자 정보 변경/삭제 시 해당 사용자의 캐시 제거
+     * 트랜잭션 안에서 호출되면 커밋 전에 다른 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋된 뒤에 한 번 더 제거한다.
+     */
+    public void evict(User user) {
+        if (user == null) {
+            return;
+        }
+        String email = user.getEmail();
+        String oauthProviderId = user.getOauthProviderId();
+        evict(email);
+        evict(oauthProviderId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email);
+                    evict(oauthProviderId);
+                }
+            });
+        }
+    }
+
+    private void evict(String subject) {
+        if (subject == null) {
+            return;
+        }
+        cache.invalidate(subject);
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + subject, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
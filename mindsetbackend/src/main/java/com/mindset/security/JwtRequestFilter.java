@@ -20,6 +20,8 @@ import java.io.IOException;
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -33,17 +35,21 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         // JWT 토큰 추출
         String jwt = resolveToken(request);
 
-        // 토큰 검증 및 인증 설정
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            try {
-                Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
-            } catch (Exception e) {
-                log.error("토큰 인증 처리 중 오류 발생: {}", e.getMessage());
-                // SecurityContext 초기화 - 이 부분에서 원치 않는 리다이렉션이 발생할 수 있음
-                SecurityContextHolder.clearContext();
-            }
+        // 토큰 검증 및 인증 설정 (검증된 토큰이면 캐시된 인증 정보 사용)
+        Authentication authentication = StringUtils.hasText(jwt)
+                ? verifiedTokenCache.get(jwt, jwtTokenProvider::resolveAuthentication)
+                : null;
+
+        // 로그아웃 등으로 무효화된 토큰 거부 (메모리 목록만 확인)
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal
+                && tokenRevocationStore.isRevoked(((JwtUserPrincipal) authentication.getPrincipal()).getTokenId())) {
+            log.debug("무효화된 JWT 토큰입니다");
+            authentication = null;
+        }
+
+        if (authentication != null) {
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
         } else {
             log.debug("유효한 JWT 토큰이 없습니다");
             // 중요: 인증 실패해도 다음 필터로 진행 (토큰이 없거나 유효하지 않을 경우 SecurityContext에 인증 정보가 없는 상태로 진행)
@@ -2,21 +2,23 @@ package com.mindset.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.mindset.model.dto.User;
+
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -26,18 +28,51 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String PROVIDER_CLAIM = "provider";
+    private static final String NICKNAME_CLAIM = "nickname";
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
-    @Value("${jwt.token-validity-in-seconds:3600000}")
-    private long tokenValidityInMilliseconds;
+    // 액세스 토큰은 짧게 두고 만료되면 리프레시 토큰으로 재발급
+    @Value("${jwt.access-token-validity-in-seconds:1800}")
+    private long accessTokenValidityInSeconds;
+
+    @Value("${jwt.refresh-token-validity-in-seconds:1209600}")
+    private long refreshTokenValidityInSeconds;
 
-    private Key getSigningKey() {
+    // 서명 키와 파서는 스레드 안전하므로 한 번만 만들어 재사용
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    /**
+     * JWT 액세스 토큰 생성
+     * 사용자 ID, OAuth 제공자, 닉네임을 클레임으로 담아 요청마다 DB에서 사용자를 조회하지 않아도 되게 한다.
+     */
+    public String createToken(Authentication authentication, User user) {
+        return buildToken(authentication, user, null, accessTokenValidityInSeconds);
+    }
+
+    /**
+     * JWT 리프레시 토큰 생성 (액세스 토큰 재발급 전용, API 인증에는 사용할 수 없음)
+     */
+    public String createRefreshToken(Authentication authentication, User user) {
+        return buildToken(authentication, user, REFRESH_TOKEN_TYPE, refreshTokenValidityInSeconds);
     }
 
-    public String createToken(Authentication authentication) {
+    private String buildToken(Authentication authentication, User user, String tokenType, long validityInSeconds) {
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -46,27 +81,85 @@ public class JwtTokenProvider {
         String subject = authentication.getName();
 
         // 디버깅 로그 추가
-        log.debug("JWT 토큰 생성 - Subject: {}, 권한: {}", subject, authorities);
+        log.debug("JWT 토큰 생성 - Subject: {}, 권한: {}, 종류: {}", subject, authorities, tokenType);
 
         long now = (new Date()).getTime();
-        Date validity = new Date(now + this.tokenValidityInMilliseconds);
+        Date validity = new Date(now + validityInSeconds * 1000);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .claim("auth", authorities)
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .claim(USER_ID_CLAIM, user.getUserId())
+                .claim(PROVIDER_CLAIM, user.getOauthProvider())
+                .claim(NICKNAME_CLAIM, user.getNickname())
                 .setIssuedAt(new Date(now))
                 .setExpiration(validity)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * 리프레시 토큰 검증 후 인증 정보 생성
+     *
+     * @throws JwtException 유효하지 않거나 리프레시 토큰이 아닌 경우
+     */
+    public Authentication getRefreshAuthentication(String refreshToken) {
+        Claims claims = parseClaims(refreshToken);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("리프레시 토큰이 아닙니다.");
+        }
+        return toAuthentication(claims, refreshToken);
+    }
+
+    /**
+     * 토큰 검증과 인증 정보 생성을 한 번의 파싱으로 처리 (JwtRequestFilter에서 사용)
+     *
+     * @return 인증 정보, 토큰이 유효하지 않으면 null
+     */
+    public Authentication resolveAuthentication(String token) {
+        try {
+            Claims claims = parseClaims(token);
+
+            // 리프레시 토큰으로는 API 인증 불가
+            if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+                log.debug("리프레시 토큰은 API 인증에 사용할 수 없습니다");
+                return null;
+            }
+            return toAuthentication(claims, token);
+        } catch (ExpiredJwtException e) {
+            // 만료는 정상적인 흐름이므로 스택 트레이스 없이 디버그 로그만 남김
+            log.debug("만료된 JWT 토큰: {}", e.getMessage());
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("유효하지 않은 JWT 토큰", e);
+            return null;
+        }
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return toAuthentication(parseClaims(token), token);
+    }
 
+    public boolean validateToken(String token) {
+        try {
+            parseClaims(token);
+            return true;
+        } catch (ExpiredJwtException e) {
+            log.debug("만료된 JWT 토큰: {}", e.getMessage());
+            return false;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("유효하지 않은 JWT 토큰", e);
+            return false;
+        }
+    }
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private Authentication toAuthentication(Claims claims, String token) {
         String subject = claims.getSubject();
 
         // 디버깅 로그 추가
@@ -76,20 +169,16 @@ public class JwtTokenProvider {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        UserDetails principal = new User(subject, "", authorities);
+        // 클레임이 없는 이전 토큰은 userId가 null (SecurityUtils에서 DB 조회로 처리)
+        Object userId = claims.get(USER_ID_CLAIM);
+        JwtUserPrincipal principal = new JwtUserPrincipal(
+                subject,
+                authorities,
+                userId instanceof Number ? ((Number) userId).longValue() : null,
+                claims.get(PROVIDER_CLAIM, String.class),
+                claims.get(NICKNAME_CLAIM, String.class),
+                claims.getId(),
+                claims.getExpiration());
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
-
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("유효하지 않은 JWT 토큰", e);
-            return false;
-        }
-    }
 }
\ No newline at end of file
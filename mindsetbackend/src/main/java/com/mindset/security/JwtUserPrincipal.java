@@ -0,0 +1,33 @@
+package com.mindset.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 정보
+ * 토큰에 담긴 사용자 ID, OAuth 제공자, 닉네임을 가지고 있어 DB 조회 없이 현재 사용자를 식별할 수 있다.
+ * 클레임이 추가되기 전에 발급된 토큰은 userId가 null이다.
+ */
+@Getter
+public class JwtUserPrincipal extends User {
+
+    private final Long userId;      // 사용자 ID (이전 토큰이면 null)
+    private final String provider;  // OAuth 제공자 (KAKAO, NAVER, 일반 로그인이면 null)
+    private final String nickname;  // 토큰 발급 시점의 닉네임
+    private final String tokenId;   // 토큰 ID (jti, 무효화 확인용)
+    private final Date expiresAt;   // 토큰 만료 시각
+
+    public JwtUserPrincipal(String subject, Collection<? extends GrantedAuthority> authorities,
+                            Long userId, String provider, String nickname, String tokenId, Date expiresAt) {
+        super(subject, "", authorities);
+        this.userId = userId;
+        this.provider = provider;
+        this.nickname = nickname;
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
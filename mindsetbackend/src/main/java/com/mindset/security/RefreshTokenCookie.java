@@ -0,0 +1,51 @@
+package com.mindset.security;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰 쿠키
+ * 소셜 로그인은 리다이렉트 URL로 토큰을 넘겨야 하므로, 오래 쓰는 리프레시 토큰은 URL 대신
+ * 재발급 경로에만 전송되는 HttpOnly 쿠키로 전달한다.
+ */
+@Component
+public class RefreshTokenCookie {
+
+    public static final String NAME = "refreshToken";
+
+    // 재발급(/api/auth/refresh) 요청에만 쿠키가 전송되도록 경로 제한
+    private static final String PATH = "/api/auth/refresh";
+
+    @Value("${jwt.refresh-token-validity-in-seconds:1209600}")
+    private long refreshTokenValidityInSeconds;
+
+    /**
+     * 리프레시 토큰 쿠키 설정
+     */
+    public void write(HttpServletResponse response, String refreshToken) {
+        response.addHeader(HttpHeaders.SET_COOKIE,
+                build(refreshToken, Duration.ofSeconds(refreshTokenValidityInSeconds)).toString());
+    }
+
+    /**
+     * 리프레시 토큰 쿠키 삭제
+     */
+    public void clear(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, build("", Duration.ZERO).toString());
+    }
+
+    private ResponseCookie build(String value, Duration maxAge) {
+        return ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Strict")
+                .path(PATH)
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -1,9 +1,11 @@
 package com.mindset.security;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.mindset.exception.NotAuthenticatedException;
 import com.mindset.model.dto.User;
@@ -19,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SecurityUtils {
 
     private final UserService userService;
+    private final CurrentUserCache currentUserCache;
 
     /**
      * 현재 인증된 사용자의 ID를 반환합니다.
@@ -27,10 +30,51 @@ public class SecurityUtils {
      * @throws NotAuthenticatedException 인증되지 않은 경우 발생
      */
     public Long getCurrentUserId() {
+        // 사용자 ID가 담긴 토큰이면 DB 조회 없이 바로 반환
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal) {
+            Long userId = ((JwtUserPrincipal) authentication.getPrincipal()).getUserId();
+            if (userId != null) {
+                return userId;
+            }
+        }
+
+        // 이전 토큰이나 OAuth2 세션 인증은 사용자 정보 조회
         User currentUser = getCurrentUser();
         return currentUser.getUserId();
     }
 
+    /**
+     * 현재 인증된 사용자의 ID를 반환합니다. (인증 없이 허용된 요청에서 사용)
+     *
+     * @return 현재 인증된 사용자의 ID, 인증되지 않았으면 null
+     */
+    public Long findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() ||
+                "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+
+        try {
+            return getCurrentUserId();
+        } catch (NotAuthenticatedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 요청한 사용자 ID가 현재 인증된 사용자인지 확인합니다.
+     *
+     * @param userId 요청 경로 등으로 전달받은 사용자 ID
+     * @throws ResponseStatusException 다른 사용자의 ID인 경우 (403)
+     */
+    public void checkCurrentUser(Long userId) {
+        if (!getCurrentUserId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "다른 사용자의 정보는 조회할 수 없습니다.");
+        }
+    }
+
     /**
      * 현재 인증된 사용자 정보를 반환합니다.
      *
@@ -53,9 +97,12 @@ public class SecurityUtils {
             String email = oAuth2User.getEmail();
             log.debug("OAuth2 인증 사용자: {}", email);
 
-            // UserService를 통해 이메일로 사용자 정보 조회
-            return userService.findByEmail(email)
-                    .orElseThrow(() -> new NotAuthenticatedException("OAuth2 사용자 정보를 찾을 수 없습니다: " + email));
+            // UserService를 통해 이메일로 사용자 정보 조회 (캐시 사용)
+            User user = currentUserCache.get(email, key -> userService.findByEmail(key).orElse(null));
+            if (user == null) {
+                throw new NotAuthenticatedException("OAuth2 사용자 정보를 찾을 수 없습니다: " + email);
+            }
+            return user;
         }
 
         // JWT 기반 인증인 경우 (UserDetails)
@@ -64,25 +111,8 @@ public class SecurityUtils {
             String username = userDetails.getUsername();
             log.debug("JWT 인증 사용자: {}", username);
 
-            // 1. 먼저 이메일로 조회 시도
-            User user = userService.findByEmail(username).orElse(null);
-
-            // 2. 이메일로 찾지 못한 경우, OAuth ID로 조회 시도
-            if (user == null) {
-                // KAKAO나 NAVER 등 모든 OAuth 제공자에 대해 조회
-                user = userService.findByOAuth("KAKAO", username).orElse(null);
-                if (user == null) {
-                    user = userService.findByOAuth("NAVER", username).orElse(null);
-                }
-            }
-
-            // 3. 그래도 찾지 못한 경우 모든 사용자를 조회하여 OAuth Provider ID로 필터링
-            if (user == null) {
-                user = userService.findAllUsers().stream()
-                        .filter(u -> username.equals(u.getOauthProviderId()))
-                        .findFirst()
-                        .orElse(null);
-            }
+            // 캐시에 없으면 이메일 -> OAuth 제공자 ID 순서로 조회
+            User user = currentUserCache.get(username, this::findUserBySubject);
 
             if (user == null) {
                 throw new NotAuthenticatedException("사용자 정보를 찾을 수 없습니다: " + username);
@@ -94,4 +124,14 @@ public class SecurityUtils {
         log.warn("지원하지 않는 인증 타입: {}", principal.getClass().getName());
         throw new NotAuthenticatedException("지원하지 않는 인증 방식입니다.");
     }
+
+    /**
+     * JWT subject로 사용자 조회
+     * 1. 이메일로 조회, 2. 찾지 못한 경우 OAuth 제공자 ID로 조회 (KAKAO, NAVER 등 모든 제공자)
+     */
+    private User findUserBySubject(String subject) {
+        return userService.findByEmail(subject)
+                .or(() -> userService.findByOAuthProviderId(subject))
+                .orElse(null);
+    }
 }
\ No newline at end of file
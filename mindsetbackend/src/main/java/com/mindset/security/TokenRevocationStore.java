@@ -0,0 +1,83 @@
+package com.mindset.security;
+
+import com.mindset.mapper.RevokedTokenMapper;
+import com.mindset.model.dto.RevokedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 무효화된 JWT 토큰 목록
+ * revoked_tokens 테이블을 원본으로 두고, 만료 전 토큰 ID(jti)를 메모리에 들고 있어 요청마다 DB를 조회하지 않는다.
+ * 서버 시작 시 테이블에서 다시 읽고, 주기적으로 다른 서버에서 추가된 항목을 동기화하며 만료된 항목을 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    private final RevokedTokenMapper revokedTokenMapper;
+
+    // 토큰 ID -> 토큰 만료 시각 (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        sync();
+        log.info("무효화 토큰 목록 로드 완료: {}개", revokedTokens.size());
+    }
+
+    /**
+     * 토큰 무효화 여부 (토큰 ID가 없는 이전 토큰은 무효화 대상이 아님)
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedTokens.containsKey(tokenId);
+    }
+
+    /**
+     * 토큰 무효화 (DB에 저장 후 메모리 목록에 추가)
+     *
+     * @return 이번 호출로 무효화되었으면 true, 토큰 ID가 없거나 이미 무효화된 토큰이면 false
+     */
+    public boolean revoke(String tokenId, Long userId, Date expiresAt) {
+        if (tokenId == null || expiresAt == null) {
+            return false;
+        }
+
+        // token_id가 기본 키이므로 동시에 같은 토큰을 무효화하면 한 요청만 1행을 추가한다.
+        int inserted = revokedTokenMapper.insertRevokedToken(RevokedToken.builder()
+                .tokenId(tokenId)
+                .userId(userId)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                .build());
+        revokedTokens.put(tokenId, expiresAt.getTime());
+        return inserted == 1;
+    }
+
+    /**
+     * 다른 서버에서 무효화한 토큰을 반영하고 만료된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:60000}")
+    public void sync() {
+        List<RevokedToken> activeTokens = revokedTokenMapper.findAllActive();
+        for (RevokedToken token : activeTokens) {
+            revokedTokens.put(token.getTokenId(),
+                    token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        // 원래 만료 시각이 지난 토큰은 어차피 검증에서 거부되므로 목록에서 제거
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedTokenMapper.deleteExpired();
+    }
+}
@@ -0,0 +1,115 @@
+package com.mindset.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증된 JWT 토큰 캐시
+ * 같은 토큰이 반복해서 들어오면 서명 검증과 클레임 파싱을 건너뛰고 이미 만든 Authentication을 돌려준다.
+ * 키는 토큰 원문이 아닌 SHA-256 해시이며, 항목은 토큰의 exp 시각에 만료된다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, Authentication> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 토큰에 해당하는 인증 정보 조회 (캐시에 없으면 verifier로 검증 후 저장)
+     *
+     * @return 인증 정보, 유효하지 않은 토큰이면 null (null은 캐시하지 않음)
+     */
+    public Authentication get(String token, Function<String, Authentication> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(hash(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * 토큰 캐시 제거 (로그아웃 등으로 토큰을 무효화할 때)
+     */
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    /**
+     * 캐시 적중률 주기 로그
+     */
+    @Scheduled(fixedDelayString = "${jwt.verified-cache.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (!enabled) {
+            return;
+        }
+        CacheStats stats = cache.stats();
+        log.info("검증된 토큰 캐시 - 크기: {}, 적중: {}, 미적중: {}, 적중률: {}",
+                cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.2f", stats.hitRate()));
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 항목 만료 시각을 토큰의 exp에 맞춘다
+     */
+    private static class TokenExpiry implements Expiry<String, Authentication> {
+
+        @Override
+        public long expireAfterCreate(String key, Authentication authentication, long currentTime) {
+            if (authentication.getPrincipal() instanceof JwtUserPrincipal) {
+                JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+                if (principal.getExpiresAt() != null) {
+                    long remainingMillis = principal.getExpiresAt().getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                }
+            }
+            // 만료 시각을 알 수 없는 토큰은 캐시하지 않음
+            return 0;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Authentication authentication, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Authentication authentication, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import com.mindset.model.dto.User;
 import com.mindset.security.JwtTokenProvider;
+import com.mindset.security.RefreshTokenCookie;
 import com.mindset.service.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
+    private final RefreshTokenCookie refreshTokenCookie;
 
     // 클라이언트 리다이렉트 URL (프론트엔드에서 OAuth 콜백을 처리할 URL)
     private final String redirectUri = "http://localhost:5173/oauth/callback";
@@ -40,7 +42,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         User user = saveOrUpdateUser(oAuth2User);
 
         // JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(authentication);
+        String token = jwtTokenProvider.createToken(authentication, user);
+        String refreshToken = jwtTokenProvider.createRefreshToken(authentication, user);
 
         log.debug("생성된 JWT 토큰: {}", token);
         log.debug("사용자 정보: ID={}, Email={}, OAuthProviderId={}",
@@ -50,6 +53,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         String encodedEmail = URLEncoder.encode(user.getEmail(), StandardCharsets.UTF_8.toString());
         String encodedNickname = URLEncoder.encode(user.getNickname(), StandardCharsets.UTF_8.toString());
 
+        // 리프레시 토큰은 URL(브라우저 기록, 로그, Referer)에 남지 않도록 HttpOnly 쿠키로 전달
+        refreshTokenCookie.write(response, refreshToken);
+
         // 프론트엔드로 토큰과 함께 리다이렉트
         String targetUrl = UriComponentsBuilder.fromUriString(redirectUri)
                 .queryParam("token", token)
@@ -3,9 +3,15 @@ package com.mindset.service;
 import com.mindset.model.response.AuthResponse;
 import com.mindset.model.dto.User;
 import com.mindset.security.JwtTokenProvider;
+import com.mindset.security.JwtUserPrincipal;
+import com.mindset.security.PasswordHashingExecutor;
+import com.mindset.security.TokenRevocationStore;
 import com.mindset.security.oauth2.CustomOAuth2User;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -13,6 +19,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
@@ -23,47 +35,48 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    // 해싱이 끝난 뒤 사용자 저장을 이어서 처리하는 실행기 (DB 작업이 BCrypt 전용 스레드를 붙잡지 않도록 가상 스레드 사용)
+    private final ExecutorService signupPersistExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     /**
      * 회원가입 처리
+     * 비밀번호 암호화(BCrypt)만 전용 실행기에서 처리하고, 사용자 등록은 별도 스레드에서 트랜잭션으로 처리한다.
      */
-    @Transactional
-    public User signup(User user) {
-        // 비밀번호 암호화
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-
-        // 기본 역할 설정
-        user.setRole("ROLE_USER");
-
-        // 사용자 등록
-        return userService.createUser(user);
+    public CompletableFuture<User> signup(User user) {
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(user.getPassword()))
+                .thenApplyAsync(encodedPassword -> {
+                    // 암호화한 비밀번호 설정
+                    user.setPassword(encodedPassword);
+
+                    // 기본 역할 설정
+                    user.setRole("ROLE_USER");
+
+                    // 사용자 등록 (UserService.createUser의 트랜잭션 안에서 중복 확인과 저장)
+                    return userService.createUser(user);
+                }, signupPersistExecutor);
     }
 
     /**
      * 일반 로그인 처리
+     * 비밀번호 검증(BCrypt)은 요청 스레드가 아닌 전용 실행기에서 처리하고, 포화 시 429로 거절한다.
      */
-    public AuthResponse login(String email, String password) {
-        // 인증 처리
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(email, password)
-        );
-
-        // JWT 토큰 생성
-        String jwt = jwtTokenProvider.createToken(authentication);
-
-        // 사용자 정보 조회
-        User user = userService.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        // 응답 생성
-        return AuthResponse.builder()
-                .token(jwt)
-                .userId(user.getUserId())
-                .email(user.getEmail())
-                .nickname(user.getNickname())
-                .profileImage(user.getProfileImage())
-                .role(user.getRole())
-                .build();
+    public CompletableFuture<AuthResponse> login(String email, String password) {
+        return passwordHashingExecutor.submit(() -> {
+            // 인증 처리
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(email, password)
+            );
+
+            // 사용자 정보 조회
+            User user = userService.findByEmail(email)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+            // JWT 액세스 토큰과 리프레시 토큰 발급
+            return createAuthResponse(authentication, user);
+        });
     }
 
     /**
@@ -74,12 +87,75 @@ public class AuthService {
         // OAuth 정보로 사용자 조회 또는 생성
         User user = processOAuthUser(oAuth2User);
 
-        // JWT 토큰 생성
-        String jwt = jwtTokenProvider.createToken(authentication);
+        // JWT 액세스 토큰과 리프레시 토큰 발급
+        return createAuthResponse(authentication, user);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급
+     * 사용한 리프레시 토큰은 무효화하고 새 리프레시 토큰을 함께 발급한다.
+     */
+    public AuthResponse refresh(String refreshToken) {
+        Authentication authentication;
+        try {
+            authentication = jwtTokenProvider.getRefreshAuthentication(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+        if (tokenRevocationStore.isRevoked(principal.getTokenId())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이미 사용되었거나 로그아웃된 리프레시 토큰입니다.");
+        }
+
+        // 새 토큰을 발급하기 전에 사용한 리프레시 토큰을 먼저 무효화 (동시에 같은 토큰으로 요청하면 한 요청만 통과)
+        if (!tokenRevocationStore.revoke(principal.getTokenId(), principal.getUserId(), principal.getExpiresAt())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이미 사용되었거나 로그아웃된 리프레시 토큰입니다.");
+        }
+
+        // 탈퇴 여부 확인 겸 최신 닉네임 반영
+        User user = userService.findById(principal.getUserId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
+
+        return createAuthResponse(authentication, user);
+    }
+
+    /**
+     * 로그아웃 처리 (현재 액세스 토큰과 전달받은 리프레시 토큰 무효화)
+     */
+    public void logout(String refreshToken) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal) {
+            JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+            tokenRevocationStore.revoke(principal.getTokenId(), principal.getUserId(), principal.getExpiresAt());
+        }
+
+        revokeRefreshToken(refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰 무효화 (쿠키로 전달된 리프레시 토큰 폐기용)
+     */
+    public void revokeRefreshToken(String refreshToken) {
+        if (StringUtils.hasText(refreshToken)) {
+            try {
+                JwtUserPrincipal principal =
+                        (JwtUserPrincipal) jwtTokenProvider.getRefreshAuthentication(refreshToken).getPrincipal();
+                tokenRevocationStore.revoke(principal.getTokenId(), principal.getUserId(), principal.getExpiresAt());
+            } catch (JwtException | IllegalArgumentException e) {
+                // 이미 만료되었거나 잘못된 토큰은 무효화할 필요 없음
+                log.debug("로그아웃 - 유효하지 않은 리프레시 토큰: {}", e.getMessage());
+            }
+        }
+    }
 
-        // 응답 생성
+    /**
+     * 액세스/리프레시 토큰 발급 후 응답 생성
+     */
+    private AuthResponse createAuthResponse(Authentication authentication, User user) {
         return AuthResponse.builder()
-                .token(jwt)
+                .token(jwtTokenProvider.createToken(authentication, user))
+                .refreshToken(jwtTokenProvider.createRefreshToken(authentication, user))
                 .userId(user.getUserId())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
@@ -119,4 +195,9 @@ public class AuthService {
                     return userService.createOAuthUser(newUser);
                 });
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        signupPersistExecutor.shutdown();
+    }
+}
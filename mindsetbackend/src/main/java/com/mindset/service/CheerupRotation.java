@@ -0,0 +1,73 @@
+package com.mindset.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자별 명언 순환 상태
+ * 명언 n개를 (multiplier * position + offset) mod n 순서로 돌면 multiplier가 n과 서로소일 때
+ * 한 바퀴 동안 모든 명언이 정확히 한 번씩 나온다. 순열 전체를 저장하지 않고 정수 4개만 두며 다음 위치 계산은 O(1)이다.
+ */
+final class CheerupRotation {
+
+    private final int size;         // 순환을 만들 때의 명언 수 (바뀌면 새 순환 시작)
+    private final int multiplier;   // n과 서로소인 곱수
+    private final int offset;       // 시작 위치
+    private final int position;     // 이번 순환에서 다음에 꺼낼 순번
+
+    private CheerupRotation(int size, int multiplier, int offset, int position) {
+        this.size = size;
+        this.multiplier = multiplier;
+        this.offset = offset;
+        this.position = position;
+    }
+
+    /**
+     * 새 순환 시작 (직전에 보여준 명언으로 시작하지 않도록 함)
+     *
+     * @param lastIndex 직전에 보여준 명언 위치 (없으면 -1)
+     */
+    static CheerupRotation start(int size, int lastIndex) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int multiplier = 1;
+        if (size > 2) {
+            do {
+                multiplier = 1 + random.nextInt(size - 1);
+            } while (gcd(multiplier, size) != 1);
+        }
+
+        int offset = random.nextInt(size);
+        if (offset == lastIndex && size > 1) {
+            offset = (offset + 1) % size;
+        }
+        return new CheerupRotation(size, multiplier, offset, 0);
+    }
+
+    /**
+     * 다음 상태 (명언 수가 바뀌었거나 한 바퀴를 다 돌았으면 새 순환)
+     */
+    CheerupRotation next(int currentSize) {
+        if (currentSize != size) {
+            return start(currentSize, -1);
+        }
+        if (position + 1 >= size) {
+            return start(size, currentIndex());
+        }
+        return new CheerupRotation(size, multiplier, offset, position + 1);
+    }
+
+    /**
+     * 이번에 보여줄 명언 위치
+     */
+    int currentIndex() {
+        return (int) (((long) multiplier * position + offset) % size);
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -1,15 +1,96 @@
 package com.mindset.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mindset.mapper.CheerupMapper;
 import com.mindset.model.dto.Cheerup;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 응원 명언 조회
+ * 명언 전체를 불변 배열로 메모리에 올려 두고 무작위로 골라 주므로 요청마다 DB를 조회하지 않는다.
+ * 명언은 관리자가 DB에 직접 넣으므로 주기적으로 다시 불러와 배열을 통째로 교체한다.
+ * 로그인한 사용자에게는 사용자별 순환 순서로 주어, 전체를 한 번씩 다 볼 때까지 같은 명언이 다시 나오지 않는다.
+ */
+@Slf4j
 @Service
 public class CheerupService {
     @Autowired private CheerupMapper cheerupMapper;
 
+    // 순환 상태를 기억할 최대 사용자 수
+    // 항목 하나는 Caffeine 노드, 맵 항목, Long 키, CheerupRotation을 합쳐 약 100~150바이트이므로 기본값 10만 명이면 약 10~15MB
+    @Value("${cheerup.rotation.max-users:100000}")
+    private long rotationMaxUsers;
+
+    @Value("${cheerup.rotation.expire-after-access-hours:168}")
+    private long rotationExpireHours;
+
+    // 사용자 ID -> 명언 순환 상태 (오래 접속하지 않은 사용자는 제거되어 다음에 새 순환 시작)
+    private Cache<Long, CheerupRotation> rotations;
+
+    // 교체만 하고 수정하지 않는 배열 (읽는 쪽은 잠금 없이 사용)
+    private volatile Cheerup[] cheerups = new Cheerup[0];
+
+    @PostConstruct
+    public void load() {
+        rotations = Caffeine.newBuilder()
+                .maximumSize(rotationMaxUsers)
+                .expireAfterAccess(Duration.ofHours(rotationExpireHours))
+                .build();
+        refresh();
+    }
+
+    /**
+     * 명언 목록 다시 불러오기 (실패하면 이전 목록 유지)
+     */
+    @Scheduled(fixedDelayString = "${cheerup.refresh-interval-ms:600000}",
+            initialDelayString = "${cheerup.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            List<Cheerup> loaded = cheerupMapper.findAll();
+            Cheerup[] previous = cheerups;
+            cheerups = loaded.toArray(new Cheerup[0]);
+            if (previous.length != cheerups.length) {
+                log.info("응원 명언 {}개 적재", cheerups.length);
+            }
+        } catch (Exception e) {
+            log.error("응원 명언 불러오기 실패: {}", e.getMessage());
+        }
+    }
+
     public Cheerup getRandomCheerup(){
-        return cheerupMapper.getRandomCheerup();
+        Cheerup[] pool = cheerups;
+        if (pool.length == 0) {
+            return null;
+        }
+        return pool[ThreadLocalRandom.current().nextInt(pool.length)];
+    }
+
+    /**
+     * 사용자별 다음 명언 (사용자 ID가 없으면 무작위)
+     */
+    public Cheerup getNextCheerup(Long userId) {
+        Cheerup[] pool = cheerups;
+        if (pool.length == 0) {
+            return null;
+        }
+        if (userId == null) {
+            return pool[ThreadLocalRandom.current().nextInt(pool.length)];
+        }
+
+        // 같은 사용자의 동시 요청도 순서대로 한 칸씩 진행
+        CheerupRotation rotation = rotations.asMap().compute(userId, (id, current) -> current == null
+                ? CheerupRotation.start(pool.length, -1)
+                : current.next(pool.length));
+        return pool[rotation.currentIndex()];
     }
 }
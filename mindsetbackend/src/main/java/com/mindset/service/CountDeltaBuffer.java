@@ -0,0 +1,138 @@
+package com.mindset.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 ID별 카운터 증감분을 메모리에 모아 두었다가 한 번에 DB에 반영하는 버퍼
+ * 게시글마다 LongAdder에 누적하므로 같은 게시글에 몰린 요청도 서로 잠금을 기다리지 않는다.
+ * 반영할 때는 sumThenReset으로 꺼낸 만큼만 DB에 쓰므로 증감분이 사라지거나 두 번 반영되지 않고,
+ * 반영에 실패하면 꺼낸 증감분을 되돌려 다음 주기에 다시 시도한다.
+ * <p>
+ * 꺼낸 증감분은 DB에 반영될 때까지 {@link #getPendingDelta}에 함께 더해 보여 준다.
+ * 조회하는 쪽은 DB 값과 {@link #getPendingDelta}를 따로 읽어 더하므로, 반영과 겹친 조회는 커밋 직전/직후 잠깐
+ * 반영 중인 증감분만큼 덜 보이거나 더 보일 수 있다. 다음 조회에서는 바로잡힌다.
+ */
+@Slf4j
+public abstract class CountDeltaBuffer {
+
+    // 한 번의 UPDATE 문에 담을 최대 게시글 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // 게시글 ID별 아직 DB에 반영되지 않은 증감분
+    // 합이 0인 항목은 반영 후에 제거하며, 제거된 LongAdder에 더한 스레드는 직접 다시 옮겨 담는다 (add 참고)
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    // 꺼내서 DB에 반영 중인 증감분 (반영이 끝나면 제거)
+    private final Map<Long, Long> flushingDeltas = new ConcurrentHashMap<>();
+
+    // 버퍼에 담을 수 있는 최대 게시글 수
+    private final int maxPendingPosts;
+
+    // 반영 작업 직렬화 (synchronized 안에서 JDBC I/O를 하면 가상 스레드가 캐리어 스레드에 고정되므로 Lock 사용)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    protected CountDeltaBuffer(int maxPendingPosts) {
+        this.maxPendingPosts = maxPendingPosts;
+    }
+
+    /**
+     * 증감분을 DB에 반영 (게시글 ID -> 증감분)
+     */
+    protected abstract void writeDeltas(Map<Long, Long> deltas);
+
+    /**
+     * 증감분 누적
+     *
+     * @return 버퍼가 가득 차서 새 게시글을 받을 수 없으면 false (호출한 쪽에서 바로 DB에 반영)
+     */
+    protected boolean tryAdd(Long postId, long delta) {
+        if (!pendingDeltas.containsKey(postId) && pendingDeltas.size() >= maxPendingPosts) {
+            return false;
+        }
+        add(postId, delta);
+        return true;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분 (반영 중인 증감분 포함)
+     */
+    public long getPendingDelta(Long postId) {
+        LongAdder adder = pendingDeltas.get(postId);
+        Long flushing = flushingDeltas.get(postId);
+        return (adder != null ? adder.sum() : 0) + (flushing != null ? flushing : 0);
+    }
+
+    /**
+     * 누적된 증감분을 DB에 반영
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            // 게시글별 증감분을 꺼내고 0으로 초기화 (꺼낸 뒤에 들어온 증감분은 다음 주기에 반영)
+            Map<Long, Long> deltas = new LinkedHashMap<>();
+            pendingDeltas.forEach((postId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    flushingDeltas.put(postId, delta);
+                    deltas.put(postId, delta);
+                }
+            });
+
+            List<Long> postIds = new ArrayList<>(deltas.keySet());
+            for (int from = 0; from < postIds.size(); from += FLUSH_BATCH_SIZE) {
+                Map<Long, Long> batch = new LinkedHashMap<>();
+                for (Long postId : postIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, postIds.size()))) {
+                    batch.put(postId, deltas.get(postId));
+                }
+
+                try {
+                    writeDeltas(batch);
+                } catch (Exception e) {
+                    log.error("{} 반영 실패 (다음 주기에 재시도): {}건, {}", getClass().getSimpleName(), batch.size(), e.getMessage());
+                    // 꺼낸 증감분을 되돌린 뒤 반영 중 목록에서 제거 (되돌리기 전에 제거하면 잠깐 덜 보임)
+                    batch.forEach(this::add);
+                }
+                batch.keySet().forEach(flushingDeltas::remove);
+            }
+
+            // 더 이상 증감분이 없는 게시글 정리 (버퍼 크기 제한이 실제로 쓰이는 게시글 수를 따르도록)
+            for (Long postId : pendingDeltas.keySet()) {
+                pendingDeltas.computeIfPresent(postId, (id, adder) -> adder.sum() == 0 ? null : adder);
+            }
+
+            if (!deltas.isEmpty()) {
+                log.debug("{} 반영 완료: {}건", getClass().getSimpleName(), deltas.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 게시글의 LongAdder에 증감분을 더한다
+     * 더하는 사이에 반영 작업이 빈 항목으로 보고 제거했다면, 제거된 LongAdder에 남은 값을 꺼내 새 항목에 다시 더한다.
+     * 제거된 LongAdder에 더한 스레드는 모두 이 확인을 거치므로 증감분이 사라지지 않는다.
+     */
+    private void add(Long postId, long delta) {
+        long remaining = delta;
+        while (remaining != 0) {
+            LongAdder adder = pendingDeltas.get(postId);
+            if (adder == null) {
+                adder = pendingDeltas.computeIfAbsent(postId, id -> new LongAdder());
+            }
+            adder.add(remaining);
+            if (pendingDeltas.get(postId) == adder) {
+                return;
+            }
+            remaining = adder.sumThenReset();
+        }
+    }
+}
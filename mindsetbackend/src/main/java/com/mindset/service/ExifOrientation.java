@@ -0,0 +1,133 @@
+package com.mindset.service;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * JPEG EXIF 방향(Orientation) 태그 처리
+ * ImageIO는 EXIF 방향을 무시하고 센서 기준으로 디코딩하므로, 휴대폰 사진은 변형을 만들기 전에 직접 돌려 세워야 한다.
+ */
+final class ExifOrientation {
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int NORMAL = 1;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * 읽기 중인 이미지의 EXIF 방향 (JPEG가 아니거나 태그가 없으면 1)
+     */
+    static int read(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return NORMAL;
+            }
+
+            Node markerSequence = findChild(metadata.getAsTree(JPEG_METADATA_FORMAT), "markerSequence");
+            for (Node node = markerSequence != null ? markerSequence.getFirstChild() : null; node != null; node = node.getNextSibling()) {
+                if ("unknown".equals(node.getNodeName())
+                        && String.valueOf(APP1_MARKER).equals(((IIOMetadataNode) node).getAttribute("MarkerTag"))
+                        && ((IIOMetadataNode) node).getUserObject() instanceof byte[] data) {
+                    int orientation = parseOrientation(data);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 방향을 읽지 못하면 그대로 사용
+        }
+        return NORMAL;
+    }
+
+    /**
+     * EXIF 방향에 맞게 회전/반전한 이미지 (방향이 1이면 그대로 반환)
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);          // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);    // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);         // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);               // 좌우 반전 후 270도 회전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);         // 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);    // 좌우 반전 후 90도 회전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);          // 270도 회전
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean swapsAxes = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(
+                swapsAxes ? height : width,
+                swapsAxes ? width : height,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    /**
+     * APP1 세그먼트("Exif\0\0" + TIFF)의 IFD0에서 방향 태그 값 (없으면 0)
+     */
+    private static int parseOrientation(byte[] data) {
+        if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i' || data[3] != 'f') {
+            return 0;
+        }
+
+        ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return 0;
+        }
+
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+            return 0;
+        }
+
+        int entryCount = Short.toUnsignedInt(tiff.getShort(ifdOffset));
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return orientation >= 1 && orientation <= 8 ? orientation : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static Node findChild(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+}
@@ -1,70 +1,245 @@
 package com.mindset.service;
 
+import com.mindset.mapper.FileBlobMapper;
+import com.mindset.model.dto.FileBlob;
+import com.mindset.model.dto.StoredFile;
+import com.mindset.model.request.PresignedUploadRequest;
+import com.mindset.model.response.PresignedUploadResponse;
+import com.mindset.service.storage.FileStorage;
+import com.mindset.service.storage.PresignedUploadStorage;
+import com.mindset.service.storage.StorageObject;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FileService {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    // 업로드 파일을 옮겨 담을 때 사용하는 버퍼 크기 (파일 전체를 메모리에 올리지 않음)
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    private static final Pattern SHA256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+
+    // 직접 업로드로 등록할 수 있는 키 "{디렉토리}/{SHA-256}.확장자"
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("^([0-9a-f]{64})(\\.[a-z0-9]+)?$");
+
+    private final FileBlobMapper fileBlobMapper;
+    private final FileStorage fileStorage;
 
     @Value("${file.profile-image-dir:profile-images}")
     private String profileImageDir;
 
+    @Value("${file.workoutpost-dir:workout-posts}")
+    private String workoutPostDir;
+
+    // 직접 업로드 최대 크기 (기본 20MB)
+    @Value("${file.direct-upload.max-size-bytes:20971520}")
+    private long directUploadMaxSize;
+
     /**
      * 프로필 이미지 저장
      */
-    public String saveProfileImage(MultipartFile file, Long userId) throws IOException {
-        // 업로드 디렉토리 생성
-        String directory = uploadDir + File.separator + profileImageDir;
-        Path directoryPath = Paths.get(directory);
-        if (!Files.exists(directoryPath)) {
-            Files.createDirectories(directoryPath);
+    public StoredFile saveProfileImage(MultipartFile file) throws IOException {
+        return store(file, profileImageDir);
+    }
+
+    /**
+     * 운동 게시글 이미지 저장
+     */
+    public StoredFile saveWorkoutPostImage(MultipartFile file) throws IOException {
+        return store(file, workoutPostDir);
+    }
+
+    /**
+     * 업로드 파일을 저장하는 하위 디렉토리 목록 (정리 작업 대상)
+     */
+    public List<String> getManagedDirectories() {
+        return List.of(profileImageDir, workoutPostDir);
+    }
+
+    /**
+     * 프로필 이미지 파일명을 업로드 디렉토리 기준 상대 경로로 변환 (users.profile_image에는 파일명만 저장됨)
+     */
+    public String toProfileImagePath(String fileName) {
+        return profileImageDir + "/" + fileName;
+    }
+
+    /**
+     * 업로드 파일 저장
+     * 업로드 스트림을 NIO 채널로 임시 파일에 옮겨 쓰면서 SHA-256과 크기를 함께 계산하고,
+     * 다 쓴 뒤에 저장소의 최종 키로 넘긴다. (중간에 실패해도 반쯤 쓰인 파일이 노출되지 않음)
+     * 파일명은 내용의 SHA-256이므로 같은 파일은 한 번만 저장되고, file_blobs에 참조 수를 1 늘린다.
+     */
+    public StoredFile store(MultipartFile file, String directory) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        long size = 0;
+
+        Path tempFile = fileStorage.createTempFile(directory);
+        try {
+            try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+                 FileChannel out = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    size += buffer.remaining();
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+
+            // 내용 주소 파일명 생성 (SHA-256 + 확장자)
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String fileName = sha256 + getExtension(file.getOriginalFilename());
+            String path = directory + "/" + fileName;
+
+            // 같은 내용이 이미 저장되어 있으면 저장소가 기존 파일을 그대로 사용
+            // (수정 시각을 갱신해 참조가 저장되기 전에 정리 작업이 지우지 않도록 함)
+            fileStorage.put(path, tempFile, file.getContentType());
+
+            return acquire(path, fileName, sha256, size);
+        } finally {
+            // 저장소로 넘어갔다면 임시 파일은 이미 없음
+            Files.deleteIfExists(tempFile);
         }
+    }
 
-        // 원본 파일명에서 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    /**
+     * 게시글 이미지 직접 업로드 준비
+     * 클라이언트가 계산한 SHA-256으로 키를 정하고, 저장소에 바로 올릴 사전 서명 URL을 발급한다.
+     * 같은 내용이 이미 있으면 업로드 없이 키만 돌려준다.
+     */
+    public PresignedUploadResponse createPresignedUpload(PresignedUploadRequest request) throws IOException {
+        if (!(fileStorage instanceof PresignedUploadStorage presignedUploadStorage)) {
+            throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, "직접 업로드를 지원하지 않는 저장소입니다.");
         }
 
-        // 고유한 파일명 생성 (사용자 ID + UUID + 확장자)
-        String newFileName = userId + "_" + UUID.randomUUID().toString() + extension;
-        String filePath = directory + File.separator + newFileName;
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다.");
+        }
+
+        String sha256 = request.getSha256() != null ? request.getSha256().toLowerCase(Locale.ROOT) : "";
+        if (!SHA256_HEX.matcher(sha256).matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 SHA-256 값입니다.");
+        }
+
+        if (request.getSize() <= 0 || request.getSize() > directUploadMaxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "업로드할 수 없는 파일 크기입니다.");
+        }
+
+        String key = workoutPostDir + "/" + sha256 + getExtension(request.getFileName());
+        if (fileStorage.stat(key).isPresent()) {
+            return PresignedUploadResponse.builder()
+                    .key(key)
+                    .uploadRequired(false)
+                    .build();
+        }
+
+        String sha256Base64 = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256));
+        return presignedUploadStorage.presignUpload(key, contentType, request.getSize(), sha256Base64);
+    }
+
+    /**
+     * 직접 업로드한 게시글 이미지 등록 (저장소에 올라간 것을 확인하고 참조 수를 1 늘림)
+     * 저장소가 체크섬으로 내용을 검증했으므로 키의 SHA-256을 그대로 사용한다.
+     */
+    public StoredFile registerDirectUpload(String key) throws IOException {
+        String prefix = workoutPostDir + "/";
+        String fileName = key != null && key.startsWith(prefix) ? key.substring(prefix.length()) : "";
+        Matcher matcher = CONTENT_ADDRESSED_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 이미지 키입니다.");
+        }
+
+        Optional<StorageObject> object = fileStorage.stat(key);
+        if (object.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드된 이미지를 찾을 수 없습니다.");
+        }
+
+        // 참조가 저장되기 전에 정리 작업이 지우지 않도록 수정 시각 갱신
+        fileStorage.touch(key);
+
+        return acquire(key, fileName, matcher.group(1), object.get().getSize());
+    }
 
-        // 파일 저장
-        file.transferTo(new File(filePath));
+    private StoredFile acquire(String path, String fileName, String sha256, long size) {
+        fileBlobMapper.acquire(FileBlob.builder()
+                .path(path)
+                .sha256(sha256)
+                .size(size)
+                .build());
 
-        // 파일 접근 URL 반환 (상대 경로)
-        return profileImageDir + "/" + newFileName;
+        return StoredFile.builder()
+                .fileName(fileName)
+                .path(path)
+                .sha256(sha256)
+                .size(size)
+                .build();
     }
 
     /**
-     * 기존 파일 삭제
+     * 파일 참조 해제
+     * 같은 파일을 다른 게시글/프로필이 참조하고 있을 수 있으므로 바로 지우지 않고 참조 수만 줄인다.
+     * 참조 수가 0이 된 파일은 정리 작업에서 삭제한다.
+     *
+     * @return 참조가 해제되었으면 true (등록되지 않은 이전 파일이면 false)
      */
     public boolean deleteFile(String filePath) {
-        if (filePath == null || filePath.isEmpty()) {
+        if (filePath == null || filePath.isEmpty() || filePath.startsWith("http")) {
             return false;
         }
 
-        Path path = Paths.get(uploadDir + File.separator + filePath);
+        return fileBlobMapper.release(filePath) > 0;
+    }
+
+    /**
+     * 원본 파일명에서 확장자 추출 (영문/숫자 확장자만 허용, 없으면 빈 문자열)
+     */
+    private String getExtension(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            return "";
+        }
+
+        String extension = originalFilename.substring(originalFilename.lastIndexOf(".") + 1).toLowerCase(Locale.ROOT);
+        if (extension.isEmpty() || extension.length() > 10 || !extension.chars().allMatch(Character::isLetterOrDigit)) {
+            return "";
+        }
+        return "." + extension;
+    }
+
+    private MessageDigest newSha256Digest() {
         try {
-            return Files.deleteIfExists(path);
-        } catch (IOException e) {
-            log.error("파일 삭제 실패: {}", e.getMessage());
-            return false;
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
     }
-}
\ No newline at end of file
+}
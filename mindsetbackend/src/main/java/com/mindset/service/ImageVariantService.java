@@ -0,0 +1,298 @@
+package com.mindset.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mindset.service.storage.FileStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 크기별 변형(thumb, card, full) 생성
+ * 원본 옆에 "{원본 파일명}_{변형}.jpg" 로 저장하며, 업로드 요청이 기다리지 않도록 제한된 백그라운드 풀에서 만든다.
+ * 원본보다 큰 변형은 만들지 않고, 아직 만들어지지 않은 변형은 조회 시 제외되어 원본을 그대로 사용한다.
+ * 목록 조회마다 저장소(S3 등)에 존재 여부를 묻지 않도록 결과를 캐시하며, 없다는 결과는 곧 만들어질 수 있어 짧게만 둔다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    // 디코딩할 최대 픽셀 수 (이보다 큰 이미지는 메모리 보호를 위해 변형을 만들지 않음)
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    @Getter
+    public enum Variant {
+        THUMB("thumb", 320),
+        CARD("card", 800),
+        FULL("full", 1600);
+
+        private final String key;
+        private final int maxWidth;
+
+        Variant(String key, int maxWidth) {
+            this.key = key;
+            this.maxWidth = maxWidth;
+        }
+    }
+
+    private final FileStorage fileStorage;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Boolean> existsCache;
+
+    public ImageVariantService(FileStorage fileStorage,
+                               @Value("${image.variants.threads:2}") int threads,
+                               @Value("${image.variants.queue-capacity:200}") int queueCapacity,
+                               @Value("${image.variants.exists-cache.max-size:20000}") long existsCacheMaxSize,
+                               @Value("${image.variants.exists-cache.missing-ttl-seconds:60}") long missingTtlSeconds) {
+        this.fileStorage = fileStorage;
+        this.existsCache = Caffeine.newBuilder()
+                .maximumSize(existsCacheMaxSize)
+                .expireAfter(new ExistsExpiry(Duration.ofSeconds(missingTtlSeconds)))
+                .build();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 변형 생성 예약 (대기열이 가득 차면 건너뛰고 원본만 사용)
+     *
+     * @param path 업로드 디렉토리 기준 원본 상대 경로
+     */
+    public void generateAsync(String path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> generate(path));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변형 생성 대기열 포화 - 건너뜀: {}", path);
+        }
+    }
+
+    /**
+     * 만들어진 변형의 상대 경로 (변형 키 -> 경로, 파일이 있는 것만 포함)
+     */
+    public Map<String, String> getVariantPaths(String path) {
+        Map<String, String> variantPaths = new LinkedHashMap<>();
+        for (Variant variant : Variant.values()) {
+            String variantPath = getVariantPath(path, variant);
+            if (variantPath != null) {
+                variantPaths.put(variant.getKey(), variantPath);
+            }
+        }
+        return variantPaths;
+    }
+
+    /**
+     * 변형의 상대 경로 (아직 없거나 만들 수 없는 이미지면 null)
+     */
+    public String getVariantPath(String path, Variant variant) {
+        if (path == null || path.isEmpty() || path.startsWith("http")) {
+            return null;
+        }
+
+        String variantPath = toVariantPath(path, variant);
+        return existsCache.get(variantPath, this::exists) ? variantPath : null;
+    }
+
+    private boolean exists(String path) {
+        try {
+            return fileStorage.stat(path).isPresent();
+        } catch (IOException e) {
+            log.warn("이미지 변형 조회 실패: {}, {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private void generate(String path) {
+        try {
+            BufferedImage image = readImage(path);
+            if (image == null) {
+                return;
+            }
+
+            for (Variant variant : Variant.values()) {
+                String target = toVariantPath(path, variant);
+
+                // 같은 내용의 파일이 이미 올라와 변형이 있으면 다시 만들지 않음
+                if (fileStorage.stat(target).isPresent()) {
+                    existsCache.put(target, true);
+                    continue;
+                }
+
+                // 원본보다 큰 변형은 만들지 않음 (썸네일은 작은 이미지라도 JPEG로 다시 저장해 용량을 줄임)
+                if (image.getWidth() <= variant.getMaxWidth() && variant != Variant.THUMB) {
+                    continue;
+                }
+                writeJpeg(resize(image, variant.getMaxWidth()), target);
+                existsCache.put(target, true);
+            }
+            log.debug("이미지 변형 생성 완료: {}", path);
+        } catch (IOException | RuntimeException e) {
+            log.error("이미지 변형 생성 실패: {}, {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 이미지 읽기 (EXIF 방향 적용, 이미지가 아니거나 너무 크면 null)
+     */
+    private BufferedImage readImage(String source) throws IOException {
+        try (InputStream in = fileStorage.open(source);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.debug("지원하지 않는 이미지 형식: {}", source);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    log.warn("이미지가 너무 커서 변형을 만들지 않음: {} ({}px)", source, pixels);
+                    return null;
+                }
+                // 휴대폰 사진은 EXIF 방향대로 돌려 세운 뒤 변형을 만듦 (변형 JPEG에는 EXIF를 남기지 않음)
+                return ExifOrientation.apply(reader.read(0), ExifOrientation.read(reader));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로 maxWidth 이하로 축소 (절반씩 나눠 줄여 화질 유지, 투명 배경은 흰색으로 채움)
+     */
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (width > targetWidth);
+
+        return current;
+    }
+
+    /**
+     * JPEG로 임시 파일에 쓴 뒤 저장소에 저장
+     */
+    private void writeJpeg(BufferedImage image, String target) throws IOException {
+        Path tempFile = fileStorage.createTempFile(target.substring(0, Math.max(0, target.lastIndexOf('/'))));
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(tempFile.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            fileStorage.put(target, tempFile, "image/jpeg");
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * "workout-posts/abc.png" -> "workout-posts/abc_card.jpg"
+     */
+    private String toVariantPath(String path, Variant variant) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        String base = dot > slash ? path.substring(0, dot) : path;
+        return base + "_" + variant.getKey() + ".jpg";
+    }
+
+    /**
+     * 있으면 오래, 없으면 짧게 캐시
+     */
+    private static class ExistsExpiry implements Expiry<String, Boolean> {
+
+        private static final long EXISTING_TTL_NANOS = Duration.ofHours(6).toNanos();
+
+        private final long missingTtlNanos;
+
+        ExistsExpiry(Duration missingTtl) {
+            this.missingTtlNanos = missingTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Boolean exists, long currentTime) {
+            return exists ? EXISTING_TTL_NANOS : missingTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Boolean exists, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Boolean exists, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,93 @@
+package com.mindset.service;
+
+import com.mindset.mapper.WorkoutPostMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 게시글 좋아요 수 비동기 집계기 (post-like.async-count.enabled=true 일 때 사용)
+ * 좋아요 토글은 post_likes 행만 기록하고, 좋아요 수 증감분은 여기서 모아 주기적으로 workout_posts에 반영한다.
+ * 인기 게시글의 workout_posts 행 잠금을 요청 처리 경로에서 없애기 위한 것.
+ */
+@Slf4j
+@Component
+public class LikeCountAggregator extends CountDeltaBuffer {
+
+    private final WorkoutPostMapper workoutPostMapper;
+    private final boolean enabled;
+
+    public LikeCountAggregator(WorkoutPostMapper workoutPostMapper,
+                               @Value("${post-like.async-count.enabled:false}") boolean enabled,
+                               @Value("${post-like.async-count.max-pending-posts:10000}") int maxPendingPosts) {
+        super(maxPendingPosts);
+        this.workoutPostMapper = workoutPostMapper;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 수 증감분 기록
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 기록하므로 롤백된 좋아요가 집계되지 않는다.
+     */
+    public void recordAfterCommit(Long postId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(postId, delta);
+                }
+            });
+        } else {
+            record(postId, delta);
+        }
+    }
+
+    /**
+     * DB에 저장된 좋아요 수에 아직 반영되지 않은 증감분을 더한 값
+     */
+    public int getLikeCount(Long postId, int storedLikeCount) {
+        return (int) Math.max(0, storedLikeCount + getPendingDelta(postId));
+    }
+
+    private void record(Long postId, int delta) {
+        if (tryAdd(postId, delta)) {
+            return;
+        }
+
+        // 버퍼가 가득 찬 경우 바로 반영
+        log.warn("좋아요 집계 버퍼가 가득 차 바로 반영합니다: postId={}", postId);
+        if (delta > 0) {
+            workoutPostMapper.incrementLikeCount(postId);
+        } else {
+            workoutPostMapper.decrementLikeCount(postId);
+        }
+    }
+
+    @Override
+    protected void writeDeltas(Map<Long, Long> deltas) {
+        workoutPostMapper.addLikeCounts(deltas);
+    }
+
+    @Scheduled(fixedDelayString = "${post-like.async-count.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
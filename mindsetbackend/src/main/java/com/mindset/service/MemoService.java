@@ -3,12 +3,16 @@ package com.mindset.service;
 import com.mindset.mapper.MemoMapper;
 import com.mindset.model.dto.Memo;
 import com.mindset.model.request.MemoRequest;
+import com.mindset.model.response.CursorPageResponse;
 import com.mindset.model.response.MemoResponse;
+import com.mindset.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,6 +21,7 @@ import java.util.List;
 public class MemoService {
 
     private final MemoMapper memoMapper;
+    private final SecurityUtils securityUtils;
 
     // 최대 허용 메모 수 상수
     private static final int MAX_MEMOS_PER_USER = 2;
@@ -33,6 +38,27 @@ public class MemoService {
         return responses;
     }
 
+    // 사용자별 조회 (무한 스크롤, 커서 기반 페이징, 생성일 기준 기간 필터)
+    public CursorPageResponse<MemoResponse> getMemoPage(Long userId, Long lastId, LocalDateTime lastDate, int size,
+                                                        LocalDate from, LocalDate to) {
+        // 본인 기록만 조회 가능
+        securityUtils.checkCurrentUser(userId);
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        if ((from != null || to != null) && lastId != null && lastDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "기간 조회의 다음 페이지는 lastDate가 필요합니다.");
+        }
+
+        // 다음 페이지 확인을 위해 size+1개 요청
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<Memo> memos = memoMapper.findPageByUserId(userId, lastId, lastDate, pageSize + 1,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null);
+        return CursorPageResponse.of(memos, pageSize, Memo::getMemoId, Memo::getCreatedAt, MemoResponse::new);
+    }
+
     // 상세 보기
     public MemoResponse getMemo(Long memoId){
         Memo memo = memoMapper.findByMemoId(memoId);
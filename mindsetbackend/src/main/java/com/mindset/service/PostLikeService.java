@@ -9,6 +9,8 @@ import com.mindset.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
@@ -21,66 +23,83 @@ public class PostLikeService {
     private final PostLikeMapper postLikeMapper;
     private final WorkoutPostMapper workoutPostMapper;
     private final SecurityUtils securityUtils; // 주입 추가
+    private final LikeCountAggregator likeCountAggregator;
 
     // 좋아요 토글 (추가 또는 취소)
+    // 하나의 트랜잭션에서 좋아요 행 변경, 좋아요 수 반영, 최신 좋아요 수 조회까지 처리한다.
+    // READ COMMITTED에서는 없는 행을 DELETE 해도 갭 락이 걸리지 않아 동시 토글끼리 교착 상태가 생기지 않는다.
+    // 비동기 집계를 켜면 좋아요 수는 커밋 후 LikeCountAggregator가 모아서 반영한다.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public PostLikeResponse toggleLike(PostLikeRequest request) {
         Long postId = request.getPostId();
         Long userId = securityUtils.getCurrentUserId();
 
-        // 게시글 존재 확인
-        if (workoutPostMapper.findWorkoutPostById(postId) == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
-        }
-
-        boolean exists = postLikeMapper.existsByPostIdAndUserId(postId, userId);
-
-        if (exists) {
-            // 이미 좋아요가 있으면 취소
-            postLikeMapper.deletePostLike(postId, userId);
-            workoutPostMapper.decrementLikeCount(postId);
-
-            return PostLikeResponse.builder()
-                    .success(true)
-                    .likeCount(workoutPostMapper.findWorkoutPostById(postId).getLikeCount())
-                    .isLiked(false)
-                    .build();
+        boolean isLiked;
+        int likeDelta = 0;
+        if (postLikeMapper.deletePostLike(postId, userId) > 0) {
+            // 이미 좋아요가 있었으면 취소 (실제로 삭제된 경우에만 감소)
+            likeDelta = -1;
+            isLiked = false;
         } else {
-            // 좋아요가 없으면 추가
+            // 좋아요가 없으면 추가 (동시 요청이 먼저 추가했다면 무시되고, 실제로 추가된 경우에만 증가)
             PostLike postLike = PostLike.builder()
                     .postId(postId)
                     .userId(userId)
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            postLikeMapper.createPostLike(postLike);
-            workoutPostMapper.incrementLikeCount(postId);
+            if (postLikeMapper.createPostLikeIfAbsent(postLike) > 0) {
+                likeDelta = 1;
+            }
+            isLiked = true;
+        }
 
-            return PostLikeResponse.builder()
-                    .success(true)
-                    .likeCount(workoutPostMapper.findWorkoutPostById(postId).getLikeCount())
-                    .isLiked(true)
-                    .build();
+        // 좋아요 수 동기 반영
+        if (likeDelta != 0 && !likeCountAggregator.isEnabled()) {
+            if (likeDelta > 0) {
+                workoutPostMapper.incrementLikeCount(postId);
+            } else {
+                workoutPostMapper.decrementLikeCount(postId);
+            }
+        }
+
+        // 같은 트랜잭션에서 최신 좋아요 수 조회 (게시글이 없으면 예외로 롤백)
+        Integer likeCount = workoutPostMapper.findLikeCount(postId);
+        if (likeCount == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
         }
+
+        // 좋아요 수 비동기 반영 (응답에는 아직 반영되지 않은 증감분과 이번 요청분까지 포함)
+        if (likeCountAggregator.isEnabled()) {
+            likeCount = likeCountAggregator.getLikeCount(postId, likeCount + likeDelta);
+            if (likeDelta != 0) {
+                likeCountAggregator.recordAfterCommit(postId, likeDelta);
+            }
+        }
+
+        return PostLikeResponse.builder()
+                .success(true)
+                .likeCount(likeCount)
+                .isLiked(isLiked)
+                .build();
     }
 
     // 게시글의 좋아요 상태 확인
     public PostLikeResponse getLikeStatus(Long postId) {
         Long userId = securityUtils.getCurrentUserId();
 
-        // 게시글 존재 확인
-        if (workoutPostMapper.findWorkoutPostById(postId) == null) {
+        // 현재 좋아요 수 조회 (게시글 존재 확인 겸용)
+        Integer likeCount = workoutPostMapper.findLikeCount(postId);
+        if (likeCount == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
         }
 
         // 좋아요 상태 확인
         boolean isLiked = postLikeMapper.existsByPostIdAndUserId(postId, userId);
 
-        // 현재 좋아요 수 조회
-        int likeCount = workoutPostMapper.findWorkoutPostById(postId).getLikeCount();
-
         return PostLikeResponse.builder()
                 .success(true)
-                .likeCount(likeCount)
+                .likeCount(likeCountAggregator.getLikeCount(postId, likeCount))
                 .isLiked(isLiked)
                 .build();
     }
@@ -0,0 +1,160 @@
+package com.mindset.service;
+
+import com.mindset.mapper.RecordRollupMapper;
+import com.mindset.model.dto.RecordStatsRow;
+import com.mindset.model.response.RecordStatsResponse;
+import com.mindset.security.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 공부/운동 기록 기간 통계
+ * 일별 합계 테이블을 SQL에서 일/주/월 구간과 과목(운동 종류)별로 묶어 계산하므로,
+ * 기록이 아무리 많아도 조회량과 응답 크기는 구간 수에만 비례한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecordStatsService {
+
+    private final RecordRollupMapper recordRollupMapper;
+    private final SecurityUtils securityUtils;
+
+    // 한 번에 조회할 수 있는 최대 구간 수 (일 단위면 일 수, 주 단위면 주 수, 월 단위면 월 수)
+    @Value("${records.stats.max-periods:366}")
+    private long maxPeriods;
+
+    // 현재 사용자의 공부 통계
+    public RecordStatsResponse getStudyStats(LocalDate from, LocalDate to, String granularity) {
+        String unit = parseGranularity(granularity);
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = alignToPeriodStart(from != null ? from : defaultFrom(end, unit), unit);
+        validateRange(start, end, unit);
+
+        List<RecordStatsRow> rows = recordRollupMapper.findStudyStats(securityUtils.getCurrentUserId(), start, end, unit);
+        return toResponse(rows, start, end, unit, false);
+    }
+
+    // 현재 사용자의 운동 통계
+    public RecordStatsResponse getWorkoutStats(LocalDate from, LocalDate to, String granularity) {
+        String unit = parseGranularity(granularity);
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = alignToPeriodStart(from != null ? from : defaultFrom(end, unit), unit);
+        validateRange(start, end, unit);
+
+        List<RecordStatsRow> rows = recordRollupMapper.findWorkoutStats(securityUtils.getCurrentUserId(), start, end, unit);
+        return toResponse(rows, start, end, unit, true);
+    }
+
+    private String parseGranularity(String granularity) {
+        String unit = granularity != null ? granularity.toLowerCase(Locale.ROOT) : "day";
+        if (!unit.equals("day") && !unit.equals("week") && !unit.equals("month")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "granularity는 day, week, month 중 하나여야 합니다.");
+        }
+        return unit;
+    }
+
+    // 시작일이 없으면 일 단위는 최근 30일, 주 단위는 최근 12주, 월 단위는 최근 12개월
+    private LocalDate defaultFrom(LocalDate end, String unit) {
+        switch (unit) {
+            case "week":
+                return end.minusWeeks(11);
+            case "month":
+                return end.minusMonths(11);
+            default:
+                return end.minusDays(29);
+        }
+    }
+
+    // 첫 구간이 잘리지 않도록 시작일을 구간 시작(월요일, 1일)으로 맞춤
+    private LocalDate alignToPeriodStart(LocalDate date, String unit) {
+        switch (unit) {
+            case "week":
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "month":
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    private void validateRange(LocalDate start, LocalDate end, String unit) {
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+
+        long periods;
+        switch (unit) {
+            case "week":
+                periods = ChronoUnit.WEEKS.between(start, end) + 1;
+                break;
+            case "month":
+                periods = ChronoUnit.MONTHS.between(start, end) + 1;
+                break;
+            default:
+                periods = ChronoUnit.DAYS.between(start, end) + 1;
+        }
+        if (periods > maxPeriods) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "조회 기간이 너무 깁니다. (최대 " + maxPeriods + "개 구간)");
+        }
+    }
+
+    // 구간 순으로 정렬된 행을 구간별로 묶고 합계 계산
+    private RecordStatsResponse toResponse(List<RecordStatsRow> rows, LocalDate start, LocalDate end,
+                                           String unit, boolean withCalories) {
+        List<RecordStatsResponse.Period> periods = new ArrayList<>();
+        RecordStatsResponse.Period current = null;
+        int totalMinutes = 0;
+        int totalCalories = 0;
+        int recordCount = 0;
+
+        for (RecordStatsRow row : rows) {
+            if (current == null || !current.getPeriodStart().equals(row.getPeriodStart())) {
+                current = RecordStatsResponse.Period.builder()
+                        .periodStart(row.getPeriodStart())
+                        .totalCalories(withCalories ? 0 : null)
+                        .breakdown(new ArrayList<>())
+                        .build();
+                periods.add(current);
+            }
+
+            int calories = row.getTotalCalories() != null ? row.getTotalCalories() : 0;
+            current.getBreakdown().add(RecordStatsResponse.Breakdown.builder()
+                    .category(row.getCategory())
+                    .totalMinutes(row.getTotalMinutes())
+                    .totalCalories(withCalories ? calories : null)
+                    .recordCount(row.getRecordCount())
+                    .build());
+            current.setTotalMinutes(current.getTotalMinutes() + row.getTotalMinutes());
+            current.setRecordCount(current.getRecordCount() + row.getRecordCount());
+            if (withCalories) {
+                current.setTotalCalories(current.getTotalCalories() + calories);
+            }
+
+            totalMinutes += row.getTotalMinutes();
+            totalCalories += calories;
+            recordCount += row.getRecordCount();
+        }
+
+        return RecordStatsResponse.builder()
+                .from(start)
+                .to(end)
+                .granularity(unit)
+                .totalMinutes(totalMinutes)
+                .totalCalories(withCalories ? totalCalories : null)
+                .recordCount(recordCount)
+                .periods(periods)
+                .build();
+    }
+}
@@ -1,13 +1,23 @@
 package com.mindset.service;
 
+import com.mindset.mapper.RecordRollupMapper;
 import com.mindset.mapper.StudyRecordMapper;
+import com.mindset.model.dto.StudyDailyRollup;
 import com.mindset.model.dto.StudyRecord;
 import com.mindset.model.request.StudyRecordRequest;
+import com.mindset.model.response.CursorPageResponse;
 import com.mindset.model.response.StudyRecordResponse;
+import com.mindset.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,7 +26,14 @@ import java.util.stream.Collectors;
 public class StudyRecordService {
 
     private final StudyRecordMapper studyRecordMapper;
+    private final RecordRollupMapper recordRollupMapper;
+    private final SecurityUtils securityUtils;
 
+    // 일별 합계 조회 최대 기간 (일)
+    @Value("${records.rollup.max-days:366}")
+    private long maxRollupDays;
+
+    @Transactional
     public StudyRecordResponse createStudyRecord(StudyRecordRequest studyRecordRequest) {
         StudyRecord record = StudyRecord.builder()
                 .userId(studyRecordRequest.getUserId())
@@ -31,6 +48,9 @@ public class StudyRecordService {
                 .build();
 
         studyRecordMapper.createStudyRecord(record);
+
+        // 일별 합계에 반영
+        recordRollupMapper.addStudyRollup(toRollupDelta(record, 1));
         return StudyRecordResponse.builder().studyRecord(record).build();
     }
 
@@ -42,12 +62,72 @@ public class StudyRecordService {
                 .collect(Collectors.toList());
     }
 
+    // 사용자별 기록 조회 (무한 스크롤, 커서 기반 페이징, 공부 일시 기준 기간 필터)
+    public CursorPageResponse<StudyRecordResponse> getStudyRecordPage(Long userId, Long lastId, LocalDateTime lastDate, int size,
+                                                                      LocalDate from, LocalDate to) {
+        // 본인 기록만 조회 가능
+        securityUtils.checkCurrentUser(userId);
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        if ((from != null || to != null) && lastId != null && lastDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "기간 조회의 다음 페이지는 lastDate가 필요합니다.");
+        }
+
+        // 다음 페이지 확인을 위해 size+1개 요청
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<StudyRecord> records = studyRecordMapper.findPageByUserId(userId, lastId, lastDate, pageSize + 1,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null);
+        return CursorPageResponse.of(records, pageSize, StudyRecord::getRecordId, StudyRecordService::studiedAt,
+                record -> StudyRecordResponse.builder().studyRecord(record).build());
+    }
+
     public StudyRecordResponse getStudyRecord(Long recordId) {
         StudyRecord record = studyRecordMapper.findByRecordId(recordId);
         return StudyRecordResponse.builder().studyRecord(record).build();
     }
 
+    @Transactional
     public void deleteStudyRecord(Long recordId) {
-        studyRecordMapper.deleteStudyRecord(recordId);
+        StudyRecord record = studyRecordMapper.findByRecordId(recordId);
+        if (record == null) {
+            return;
+        }
+
+        // 실제로 삭제한 경우에만 일별 합계에서 제외 (동시에 삭제 요청이 와도 한 번만 반영)
+        if (studyRecordMapper.deleteStudyRecord(recordId) > 0) {
+            recordRollupMapper.addStudyRollup(toRollupDelta(record, -1));
+        }
+    }
+
+    // 기간 내 일별/과목별 공부 합계 (기록 수가 아닌 날짜 수에 비례)
+    public List<StudyDailyRollup> getDailyRollups(Long userId, LocalDate from, LocalDate to) {
+        // 본인 기록만 조회 가능
+        securityUtils.checkCurrentUser(userId);
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= maxRollupDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        return recordRollupMapper.findStudyRollups(userId, start, end);
+    }
+
+    // 공부 일시 (시작 시간, 없으면 생성일 / study_records.studied_at과 같은 값으로 일별 합계와 기간 조회에 함께 사용)
+    private static LocalDateTime studiedAt(StudyRecord record) {
+        return record.getStartTime() != null ? record.getStartTime() : record.getCreatedAt();
+    }
+
+    // 기록 하나의 일별 합계 증감분 (날짜는 공부 일시 기준)
+    private StudyDailyRollup toRollupDelta(StudyRecord record, int sign) {
+        return StudyDailyRollup.builder()
+                .userId(record.getUserId())
+                .statDate(studiedAt(record).toLocalDate())
+                .subject(record.getSubject() != null ? record.getSubject() : "")
+                .totalMinutes(sign * record.getDuration())
+                .recordCount(sign)
+                .build();
     }
 }
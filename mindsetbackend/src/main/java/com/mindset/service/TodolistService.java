@@ -3,10 +3,15 @@ package com.mindset.service;
 import com.mindset.mapper.TodolistMapper;
 import com.mindset.model.dto.Todolist;
 import com.mindset.model.request.TodolistRequest;
+import com.mindset.model.response.CursorPageResponse;
 import com.mindset.model.response.TodolistResponse;
+import com.mindset.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +21,7 @@ import java.util.List;
 public class TodolistService {
 
     private final TodolistMapper todolistMapper;
+    private final SecurityUtils securityUtils;
 
     // 생성
     public TodolistResponse createTodolist(TodolistRequest todolistRequest){
@@ -41,6 +47,28 @@ public class TodolistService {
         }
         return responses;
     }
+
+    // 사용자별 조회 (무한 스크롤, 커서 기반 페이징, 생성일 기준 기간 필터)
+    public CursorPageResponse<TodolistResponse> getTodolistPage(Long userId, Long lastId, LocalDateTime lastDate, int size,
+                                                                LocalDate from, LocalDate to) {
+        // 본인 기록만 조회 가능
+        securityUtils.checkCurrentUser(userId);
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        if ((from != null || to != null) && lastId != null && lastDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "기간 조회의 다음 페이지는 lastDate가 필요합니다.");
+        }
+
+        // 다음 페이지 확인을 위해 size+1개 요청
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<Todolist> todolists = todolistMapper.findPageByUserId(userId, lastId, lastDate, pageSize + 1,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null);
+        return CursorPageResponse.of(todolists, pageSize, Todolist::getTodoId, Todolist::getCreatedAt, TodolistResponse::new);
+    }
+
     // 특정 조회
     public TodolistResponse getTodolist(Long todoId){
         Todolist todolist = todolistMapper.findTodolistById(todoId);
@@ -0,0 +1,215 @@
+package com.mindset.service;
+
+import com.mindset.mapper.FileBlobMapper;
+import com.mindset.model.dto.FileBlob;
+import com.mindset.service.storage.FileStorage;
+import com.mindset.service.storage.StorageObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 참조되지 않는 업로드 파일 정리
+ * 삭제 여부는 file_blobs 한 곳으로만 판단한다. (게시글/프로필이 참조를 얻고 놓을 때마다 ref_count를 증감)
+ * <ul>
+ *     <li>ref_count가 0이 되고 유예 기간이 지난 파일은 등록 정보와 함께 원본, 변형 이미지를 삭제한다.</li>
+ *     <li>저장소에 있지만 file_blobs에 등록되지 않은 채 유예 기간이 지난 파일(참조 등록 전에 실패한 업로드,
+ *     등록되지 않은 직접 업로드, 남은 임시 파일, 원본이 없는 변형 이미지)도 삭제한다.</li>
+ * </ul>
+ * 디스크 I/O나 저장소 요청이 몰리지 않도록 초당 처리 파일 수를 제한하고, 회수한 용량을 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class UploadSweeper {
+
+    // "{원본 파일명}_{변형}.jpg" 형식의 변형 이미지
+    private static final Pattern VARIANT_PATTERN = Pattern.compile("^(.+)_(thumb|card|full)\\.jpg$");
+
+    // 참조 수 0인 파일을 한 번에 조회할 개수
+    private static final int RELEASE_BATCH_SIZE = 500;
+
+    // 기본 프로필 이미지 (참조 수를 세지 않는 공용 파일)
+    private static final String DEFAULT_PROFILE_IMAGE = "default.png";
+
+    private final FileBlobMapper fileBlobMapper;
+    private final FileService fileService;
+    private final FileStorage fileStorage;
+
+    private final boolean enabled;
+    private final Duration gracePeriod;
+    private final long operationIntervalNanos;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private long nextOperationAt;
+
+    public UploadSweeper(FileBlobMapper fileBlobMapper,
+                         FileService fileService,
+                         FileStorage fileStorage,
+                         @Value("${uploads.sweeper.enabled:true}") boolean enabled,
+                         @Value("${uploads.sweeper.grace-hours:24}") long graceHours,
+                         @Value("${uploads.sweeper.max-files-per-second:200}") int maxFilesPerSecond) {
+        this.fileBlobMapper = fileBlobMapper;
+        this.fileService = fileService;
+        this.fileStorage = fileStorage;
+        this.enabled = enabled;
+        this.gracePeriod = Duration.ofHours(graceHours);
+        this.operationIntervalNanos = maxFilesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxFilesPerSecond : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${uploads.sweeper.interval-ms:21600000}",
+            initialDelayString = "${uploads.sweeper.initial-delay-ms:600000}")
+    public void scheduledSweep() {
+        if (enabled) {
+            sweep();
+        }
+    }
+
+    /**
+     * 정리 1회 실행 (이미 실행 중이면 건너뜀)
+     */
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            nextOperationAt = System.nanoTime();
+            long cutoff = startedAt - gracePeriod.toMillis();
+
+            // 1단계: 참조 수가 0이 된 파일 정리
+            SweepResult result = new SweepResult();
+            releaseUnreferencedBlobs(LocalDateTime.ofInstant(Instant.ofEpochMilli(cutoff), ZoneId.systemDefault()),
+                    cutoff, result);
+
+            // 2단계: 등록되지 않고 유예 기간이 지난 파일 수집
+            // (목록을 읽은 뒤 등록된 파일은 저장 시 수정 시각이 갱신되므로 유예 기간에 걸려 제외됨)
+            Set<String> registeredPaths = new HashSet<>(fileBlobMapper.findAllPaths());
+            Set<String> registeredBases = new HashSet<>();
+            for (String path : registeredPaths) {
+                registeredBases.add(stripExtension(path));
+            }
+            registeredPaths.add(fileService.toProfileImagePath(DEFAULT_PROFILE_IMAGE));
+
+            List<String> candidates = new ArrayList<>();
+            int[] scanned = {0};
+            for (String directory : fileService.getManagedDirectories()) {
+                fileStorage.list(directory, object -> {
+                    pace();
+                    scanned[0]++;
+                    if (object.getLastModified() < cutoff
+                            && !isRegistered(object.getKey(), registeredPaths, registeredBases)) {
+                        candidates.add(object.getKey());
+                    }
+                });
+            }
+
+            // 3단계: 삭제 (그 사이 같은 내용이 다시 업로드되어 수정 시각이 갱신된 파일은 제외)
+            for (String key : candidates) {
+                pace();
+                deleteIfStale(key, cutoff, result);
+            }
+
+            log.info("업로드 파일 정리 완료 - 검사: {}개, 삭제: {}개, 회수: {} bytes, 소요: {}ms",
+                    scanned[0], result.deleted, result.reclaimedBytes, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("업로드 파일 정리 실패: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 참조 수가 0이 되고 유예 기간이 지난 파일과 그 변형 이미지 삭제
+     * 등록 정보를 먼저 조건부로 지워 그 사이 다시 참조된 파일은 건너뛰고,
+     * 저장소 파일이 유예 기간 안에 다시 저장(수정 시각 갱신)되었으면 파일은 남긴다. (다시 등록되지 않으면 다음 정리에서 삭제)
+     */
+    private void releaseUnreferencedBlobs(LocalDateTime cutoff, long cutoffMillis, SweepResult result) {
+        List<FileBlob> blobs;
+        do {
+            blobs = fileBlobMapper.findReleasable(cutoff, RELEASE_BATCH_SIZE);
+            for (FileBlob blob : blobs) {
+                pace();
+                if (fileBlobMapper.deleteIfReleasable(blob.getPath(), cutoff) == 0) {
+                    continue;
+                }
+
+                deleteIfStale(blob.getPath(), cutoffMillis, result);
+                for (ImageVariantService.Variant variant : ImageVariantService.Variant.values()) {
+                    deleteIfStale(stripExtension(blob.getPath()) + "_" + variant.getKey() + ".jpg", cutoffMillis, result);
+                }
+            }
+        } while (blobs.size() == RELEASE_BATCH_SIZE);
+    }
+
+    /**
+     * 유예 기간 안에 저장되지 않은 파일이면 삭제
+     */
+    private void deleteIfStale(String key, long cutoff, SweepResult result) {
+        try {
+            Optional<StorageObject> object = fileStorage.stat(key);
+            if (object.isEmpty() || object.get().getLastModified() >= cutoff) {
+                return;
+            }
+
+            fileStorage.delete(key);
+            result.deleted++;
+            result.reclaimedBytes += object.get().getSize();
+        } catch (IOException e) {
+            log.warn("업로드 파일 삭제 실패: {}, {}", key, e.getMessage());
+        }
+    }
+
+    private static class SweepResult {
+        private int deleted;
+        private long reclaimedBytes;
+    }
+
+    private boolean isRegistered(String relativePath, Set<String> registeredPaths, Set<String> registeredBases) {
+        if (registeredPaths.contains(relativePath)) {
+            return true;
+        }
+
+        // 변형 이미지는 원본이 등록되어 있으면 유지 (원본과 함께 1단계에서 삭제됨)
+        Matcher matcher = VARIANT_PATTERN.matcher(relativePath);
+        return matcher.matches() && registeredBases.contains(matcher.group(1));
+    }
+
+    /**
+     * 초당 처리 파일 수 제한
+     */
+    private void pace() {
+        if (operationIntervalNanos <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (nextOperationAt - now > 0) {
+            LockSupport.parkNanos(nextOperationAt - now);
+        }
+        nextOperationAt = Math.max(now, nextOperationAt) + operationIntervalNanos;
+    }
+
+    private String stripExtension(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return dot > slash ? path.substring(0, dot) : path;
+    }
+}
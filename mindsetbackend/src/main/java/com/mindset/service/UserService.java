@@ -2,10 +2,11 @@ package com.mindset.service;
 
 import com.mindset.mapper.UserMapper;
 import com.mindset.model.request.ProfileUpdateRequest;
+import com.mindset.model.dto.StoredFile;
 import com.mindset.model.dto.User;
+import com.mindset.security.CurrentUserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -28,12 +28,9 @@ public class UserService implements UserDetailsService {
 
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
-
-    @Value("${file.upload-dir}")
-    private String uploadBaseDir;
-
-    @Value("${file.profile-image-dir}")
-    private String profileImageDir;
+    private final CurrentUserCache currentUserCache;
+    private final FileService fileService;
+    private final ImageVariantService imageVariantService;
 
     /**
      * 이메일로 사용자 조회
@@ -56,12 +53,11 @@ public class UserService implements UserDetailsService {
         return Optional.ofNullable(userMapper.findByOAuth(provider, providerId));
     }
 
-    // OAuth Provider ID로 사용자 조회 (신규 메서드)
-    private Optional<User> findByOAuthProviderId(String providerId) {
-        // 모든 OAuth 제공자에 대해 검색 (KAKAO, NAVER 등)
-        return findAllUsers().stream()
-                .filter(u -> providerId.equals(u.getOauthProviderId()))
-                .findFirst();
+    /**
+     * OAuth 제공자 ID로 사용자 조회 (KAKAO, NAVER 등 제공자 구분 없이)
+     */
+    public Optional<User> findByOAuthProviderId(String providerId) {
+        return Optional.ofNullable(userMapper.findByOAuthProviderId(providerId));
     }
 
     /**
@@ -108,6 +104,7 @@ public class UserService implements UserDetailsService {
                 existingUser.setProfileImage(user.getProfileImage());
             }
             userMapper.updateOAuthInfo(existingUser);
+            currentUserCache.evict(existingUser);
             return existingUser;
         }
 
@@ -194,6 +191,7 @@ public class UserService implements UserDetailsService {
 
         // 업데이트 실행
         userMapper.update(user);
+        currentUserCache.evict(user);
 
         return user;
     }
@@ -204,6 +202,7 @@ public class UserService implements UserDetailsService {
     @Transactional
     public User updateOAuthUser(User user) {
         userMapper.updateOAuthInfo(user);
+        currentUserCache.evict(user);
         log.info("OAuth 사용자 정보 업데이트 완료: {}", user.getEmail());
         return user;
     }
@@ -227,6 +226,7 @@ public class UserService implements UserDetailsService {
 
         // 업데이트 실행
         userMapper.updateOAuthInfo(user);
+        currentUserCache.evict(user);
 
         return user;
     }
@@ -248,32 +248,20 @@ public class UserService implements UserDetailsService {
             log.info("소셜 로그인 사용자 찾음: {}, 제공자: {}", user.getEmail(), user.getOauthProvider());
         }
 
-        // 파일 저장 경로 - properties 설정 사용
-        String uploadDir = uploadBaseDir + "/" + profileImageDir;
-        File uploadPath = new File(uploadDir);
-
-        if (!uploadPath.exists()) {
-            uploadPath.mkdirs();
-        }
-
-        // 원본 파일명에서 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String fileExtension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-
-        // 파일명 생성 (사용자 ID + 타임스탬프 + 확장자)
-        String fileName = user.getUserId() + "_" + System.currentTimeMillis() + fileExtension;
-        String filePath = uploadDir + "/" + fileName;
+        // 파일 저장 (업로드 스트림을 그대로 디스크에 저장)
+        StoredFile storedFile = fileService.saveProfileImage(file);
 
-        // 파일 저장
-        File dest = new File(uploadPath.getAbsolutePath() + "/" + fileName);
-        file.transferTo(dest);
+        // 피드 아바타용 썸네일은 백그라운드에서 생성
+        imageVariantService.generateAsync(storedFile.getPath());
 
         // 사용자 프로필 이미지 경로 업데이트
-        user.setProfileImage(fileName);
+        String previousProfileImage = user.getProfileImage();
+        user.setProfileImage(storedFile.getFileName());
         userMapper.update(user);
+        currentUserCache.evict(user);
+
+        // 이전 프로필 이미지 참조 해제 (같은 파일을 다시 올린 경우에도 참조가 하나 늘었으므로 해제)
+        releaseProfileImage(previousProfileImage);
 
         return user;
     }
@@ -294,6 +282,21 @@ public class UserService implements UserDetailsService {
         }
 
         userMapper.deleteById(user.getUserId());
+        currentUserCache.evict(user);
+
+        // 프로필 이미지 참조 해제
+        releaseProfileImage(user.getProfileImage());
+    }
+
+    /**
+     * 이전 프로필 이미지 참조 해제 (기본 이미지, 소셜 프로필 URL은 제외)
+     */
+    private void releaseProfileImage(String profileImage) {
+        if (profileImage == null || profileImage.isEmpty() || "default.png".equals(profileImage)
+                || profileImage.startsWith("http")) {
+            return;
+        }
+        fileService.deleteFile(fileService.toProfileImagePath(profileImage));
     }
 
     /**
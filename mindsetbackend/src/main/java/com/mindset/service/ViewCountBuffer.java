@@ -0,0 +1,59 @@
+package com.mindset.service;
+
+import com.mindset.mapper.WorkoutPostMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게시글 조회수 쓰기 지연 버퍼
+ * 상세 조회마다 게시글 행을 잠그고 UPDATE 하는 대신 메모리에 누적했다가 주기적으로 한 번에 반영한다.
+ */
+@Component
+public class ViewCountBuffer extends CountDeltaBuffer {
+
+    private final WorkoutPostMapper workoutPostMapper;
+
+    public ViewCountBuffer(WorkoutPostMapper workoutPostMapper,
+                           @Value("${workoutpost.view-count.max-pending-posts:100000}") int maxPendingPosts) {
+        super(maxPendingPosts);
+        this.workoutPostMapper = workoutPostMapper;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적, 버퍼가 가득 찬 경우에만 바로 반영)
+     */
+    public void increment(Long postId) {
+        if (!tryAdd(postId, 1)) {
+            workoutPostMapper.incrementViewCount(postId);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingCount(Long postId) {
+        return getPendingDelta(postId);
+    }
+
+    @Override
+    protected void writeDeltas(Map<Long, Long> deltas) {
+        workoutPostMapper.addViewCounts(deltas);
+    }
+
+    @Scheduled(fixedDelayString = "${workoutpost.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -3,27 +3,26 @@ package com.mindset.service;
 import com.mindset.mapper.WorkoutPostMapper;
 import com.mindset.mapper.UserMapper;
 import com.mindset.model.dto.WorkoutPost;
+import com.mindset.model.dto.WorkoutPostFeed;
 import com.mindset.model.dto.User;
+import com.mindset.model.request.PresignedUploadRequest;
 import com.mindset.model.request.WorkoutPostRequest;
+import com.mindset.model.response.CursorPageResponse;
+import com.mindset.model.response.PresignedUploadResponse;
 import com.mindset.model.response.WorkoutPostListResponse;
 import com.mindset.model.response.WorkoutPostResponse;
 import com.mindset.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -33,50 +32,101 @@ public class WorkoutPostService {
     private final UserMapper userMapper;
     private final PostLikeService postLikeService;
     private final SecurityUtils securityUtils;
+    private final ViewCountBuffer viewCountBuffer;
+    private final LikeCountAggregator likeCountAggregator;
+    private final FileService fileService;
+    private final ImageVariantService imageVariantService;
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
-
-    @Value("${file.workoutpost-dir}")
-    private String workoutPostDir;
-
-    // 파일 저장 처리 메소드 (동일하게 유지)
+    // 파일 저장 처리 메소드 (업로드 스트림을 그대로 디스크에 저장)
     private String saveFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             return null;
         }
 
         try {
-            // 저장 디렉토리 생성
-            String directory = uploadDir + File.separator + workoutPostDir;
-            Path directoryPath = Paths.get(directory);
-            if (!Files.exists(directoryPath)) {
-                Files.createDirectories(directoryPath);
-            }
-
-            // 파일명 생성 (UUID 사용)
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String savedFilename = UUID.randomUUID().toString() + extension;
-
-            // 파일 저장
-            Path filePath = Paths.get(directory + File.separator + savedFilename);
-            Files.write(filePath, file.getBytes());
-
-            // 파일 URL 반환
-            return workoutPostDir + "/" + savedFilename;
+            String path = fileService.saveWorkoutPostImage(file).getPath();
+
+            // 목록/상세용 축소 이미지는 백그라운드에서 생성
+            imageVariantService.generateAsync(path);
+
+            // 파일 URL 반환 (업로드 디렉토리 기준 상대 경로)
+            return path;
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장 중 오류가 발생했습니다.", e);
         }
     }
 
+    // 직접 업로드한 이미지 등록 (저장소에 올라간 이미지를 확인하고 참조 등록)
+    private String registerImageKey(String imageKey) {
+        try {
+            String path = fileService.registerDirectUpload(imageKey).getPath();
+            imageVariantService.generateAsync(path);
+            return path;
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 확인 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 게시글 이미지 직접 업로드 준비 (사전 서명 URL 발급)
+    public PresignedUploadResponse createImageUpload(PresignedUploadRequest request) {
+        try {
+            return fileService.createPresignedUpload(request);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "업로드 준비 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 목록 조회 결과를 응답 객체로 변환
+    // 목록 화면에서는 본문 전체가 필요 없으므로 content는 비우고 미리보기를 contentPreview로 따로 보낸다
+    private List<WorkoutPostResponse> toFeedResponses(List<WorkoutPostFeed> rows) {
+        List<WorkoutPostResponse> responseList = new ArrayList<>();
+        for (WorkoutPostFeed row : rows) {
+            WorkoutPost post = WorkoutPost.builder()
+                    .postId(row.getPostId())
+                    .userId(row.getUserId())
+                    .title(row.getTitle())
+                    .workoutCategory(row.getWorkoutCategory())
+                    .imageUrl(row.getImageUrl())
+                    .viewCount(row.getViewCount() + (int) viewCountBuffer.getPendingCount(row.getPostId()))
+                    .likeCount(likeCountAggregator.getLikeCount(row.getPostId(), row.getLikeCount()))
+                    .createdAt(row.getCreatedAt())
+                    .updatedAt(row.getUpdatedAt())
+                    .build();
+
+            responseList.add(WorkoutPostResponse.builder()
+                    .workoutPost(post)
+                    .contentPreview(row.getContentPreview())
+                    .authorName(row.getAuthorName() != null ? row.getAuthorName() : "알 수 없음")
+                    .authorProfileImage(toProfileThumbnail(row.getAuthorProfileImage()))
+                    .imageVariants(imageVariantService.getVariantPaths(row.getImageUrl()))
+                    .likedByUser(row.isLiked())
+                    .build());
+        }
+        return responseList;
+    }
+
+    // 작성자 프로필 이미지 썸네일 파일명 (썸네일이 아직 없으면 원본 파일명)
+    private String toProfileThumbnail(String profileImage) {
+        if (profileImage == null || profileImage.startsWith("http")) {
+            return profileImage;
+        }
+
+        String thumbnailPath = imageVariantService.getVariantPath(
+                fileService.toProfileImagePath(profileImage), ImageVariantService.Variant.THUMB);
+        return thumbnailPath != null ? thumbnailPath.substring(thumbnailPath.lastIndexOf('/') + 1) : profileImage;
+    }
+
     // 게시글 생성
+    @Transactional
     public WorkoutPostResponse savePost(WorkoutPostRequest request, MultipartFile file) {
         // 현재 로그인한 사용자 정보 가져오기
         User currentUser = securityUtils.getCurrentUser();
 
-        // 파일 저장 처리
+        // 파일 저장 처리 (파일이 없으면 직접 업로드한 이미지 사용)
         String imageUrl = saveFile(file);
+        if (imageUrl == null && request.getImageKey() != null && !request.getImageKey().isEmpty()) {
+            imageUrl = registerImageKey(request.getImageKey());
+        }
 
         // 게시글 정보 생성
         WorkoutPost workoutPost = WorkoutPost.builder()
@@ -110,9 +160,10 @@ public class WorkoutPostService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
         }
 
-        // 조회수 증가
-        workoutPostMapper.incrementViewCount(postId);
-        workoutPost.setViewCount(workoutPost.getViewCount() + 1);
+        // 조회수 증가 (메모리에 누적 후 주기적으로 DB 반영, 아직 반영되지 않은 조회수를 더해서 응답)
+        viewCountBuffer.increment(postId);
+        workoutPost.setViewCount(workoutPost.getViewCount() + (int) viewCountBuffer.getPendingCount(postId));
+        workoutPost.setLikeCount(likeCountAggregator.getLikeCount(postId, workoutPost.getLikeCount()));
 
         // 작성자 정보 조회
         User author = userMapper.findById(workoutPost.getUserId());
@@ -125,11 +176,13 @@ public class WorkoutPostService {
         return WorkoutPostResponse.builder()
                 .workoutPost(workoutPost)
                 .authorName(authorName)
+                .imageVariants(imageVariantService.getVariantPaths(workoutPost.getImageUrl()))
                 .likedByUser(likedByUser)
                 .build();
     }
 
     // 게시글 수정
+    @Transactional
     public WorkoutPostResponse updatePost(WorkoutPostRequest request, MultipartFile file) {
         // 기존 게시글 조회
         WorkoutPost existingPost = workoutPostMapper.findWorkoutPostById(request.getPostId());
@@ -143,10 +196,16 @@ public class WorkoutPostService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "게시글 수정 권한이 없습니다.");
         }
 
-        // 파일이 있으면 새로 저장
+        // 파일이 있으면 새로 저장 (없으면 새로 직접 업로드한 이미지 사용)
         String imageUrl = existingPost.getImageUrl();
+        boolean imageAcquired = false;
         if (file != null && !file.isEmpty()) {
             imageUrl = saveFile(file);
+            imageAcquired = true;
+        } else if (request.getImageKey() != null && !request.getImageKey().isEmpty()
+                && !request.getImageKey().equals(imageUrl)) {
+            imageUrl = registerImageKey(request.getImageKey());
+            imageAcquired = true;
         }
 
         // 게시글 정보 업데이트
@@ -157,8 +216,8 @@ public class WorkoutPostService {
                 .content(request.getContent())
                 .workoutCategory(request.getWorkoutCategory())
                 .imageUrl(imageUrl)
-                .viewCount(existingPost.getViewCount())
-                .likeCount(existingPost.getLikeCount())
+                .viewCount(existingPost.getViewCount() + (int) viewCountBuffer.getPendingCount(request.getPostId()))
+                .likeCount(likeCountAggregator.getLikeCount(request.getPostId(), existingPost.getLikeCount()))
                 .createdAt(existingPost.getCreatedAt())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -166,6 +225,11 @@ public class WorkoutPostService {
         // DB 업데이트
         workoutPostMapper.updateWorkoutPost(updatedPost);
 
+        // 새 이미지 참조를 얻었으면 이전 이미지 참조 해제 (같은 내용을 다시 올려 경로가 같아도 참조가 하나 늘었으므로 해제)
+        if (imageAcquired && existingPost.getImageUrl() != null) {
+            fileService.deleteFile(existingPost.getImageUrl());
+        }
+
         // 작성자 정보 조회
         User author = userMapper.findById(updatedPost.getUserId());
         String authorName = (author != null) ? author.getNickname() : "알 수 없음";
@@ -181,6 +245,7 @@ public class WorkoutPostService {
     }
 
     // 게시글 삭제
+    @Transactional
     public void deletePost(Long postId) {
         // 기존 게시글 조회
         WorkoutPost existingPost = workoutPostMapper.findWorkoutPostById(postId);
@@ -196,21 +261,29 @@ public class WorkoutPostService {
 
         // 게시글 삭제
         workoutPostMapper.deleteWorkoutPost(postId);
+
+        // 게시글 이미지 참조 해제
+        fileService.deleteFile(existingPost.getImageUrl());
     }
 
     // 전체 게시글 목록 조회 (무한 스크롤)
     public WorkoutPostListResponse getAllPosts(Long lastPostId, int size, String category) {
-        // 다음 페이지 확인을 위해 size+1개 요청
+        // 다음 페이지 확인을 위해 size+1개 요청 (size가 1 이상이므로 잘라낸 뒤에도 마지막 게시글이 있음)
+        size = CursorPageResponse.normalizeSize(size);
         int adjustedSize = size + 1;
 
-        // 마지막 게시글 ID 기준으로 조회
-        List<WorkoutPost> posts;
-        if (category != null && !category.isEmpty()) {
-            posts = workoutPostMapper.findAllByCategory(lastPostId, adjustedSize, category);
-        } else {
-            posts = workoutPostMapper.findAll(lastPostId, adjustedSize);
+        // 현재 사용자 ID (로그인하지 않은 경우 null, 좋아요 여부는 모두 false)
+        Long currentUserId = null;
+        try {
+            currentUserId = securityUtils.getCurrentUserId();
+        } catch (Exception e) {
+            // 로그인하지 않은 경우 무시
         }
 
+        // 마지막 게시글 ID 기준으로 조회 (작성자, 좋아요 여부 포함)
+        String categoryFilter = (category != null && !category.isEmpty()) ? category : null;
+        List<WorkoutPostFeed> posts = workoutPostMapper.findFeed(lastPostId, adjustedSize, categoryFilter, null, currentUserId);
+
         // 결과가 없는 경우
         if (posts.isEmpty()) {
             return WorkoutPostListResponse.builder()
@@ -232,32 +305,10 @@ public class WorkoutPostService {
         }
 
         // 마지막 게시글 ID 추출
-        Long newLastPostId = posts.isEmpty() ? lastPostId : posts.get(posts.size() - 1).getPostId();
+        Long newLastPostId = posts.get(posts.size() - 1).getPostId();
 
         // WorkoutPostResponse 객체로 변환
-        List<WorkoutPostResponse> responseList = new ArrayList<>();
-        Long currentUserId = null;
-        try {
-            currentUserId = securityUtils.getCurrentUserId();
-        } catch (Exception e) {
-            // 로그인하지 않은 경우 무시
-        }
-
-        for (WorkoutPost post : posts) {
-            User author = userMapper.findById(post.getUserId());
-            String authorName = (author != null) ? author.getNickname() : "알 수 없음";
-
-            boolean likedByUser = false;
-            if (currentUserId != null) {
-                likedByUser = postLikeService.checkUserLiked(post.getPostId(), currentUserId);
-            }
-
-            responseList.add(WorkoutPostResponse.builder()
-                    .workoutPost(post)
-                    .authorName(authorName)
-                    .likedByUser(likedByUser)
-                    .build());
-        }
+        List<WorkoutPostResponse> responseList = toFeedResponses(posts);
 
         return WorkoutPostListResponse.builder()
                 .posts(responseList)  // WorkoutPostResponse 객체 리스트로 변경
@@ -270,12 +321,26 @@ public class WorkoutPostService {
     }
 
     // 인기 게시글 목록 조회 (좋아요 많은 순)
-    public WorkoutPostListResponse getPopularPosts(Long lastPostId, int size) {
-        // 다음 페이지 확인을 위해 size+1개 요청
+    public WorkoutPostListResponse getPopularPosts(Long lastPostId, Integer lastLikeCount, int size) {
+        // 다음 페이지 확인을 위해 size+1개 요청 (size가 1 이상이므로 잘라낸 뒤에도 마지막 게시글이 있음)
+        size = CursorPageResponse.normalizeSize(size);
         int adjustedSize = size + 1;
 
-        // 좋아요 순으로 정렬하여 조회
-        List<WorkoutPost> posts = workoutPostMapper.findPopularPosts(lastPostId, adjustedSize);
+        // lastLikeCount 없이 lastPostId만 보낸 이전 클라이언트는 해당 게시글의 좋아요 수로 커서를 맞춘다
+        if (lastPostId != null && lastLikeCount == null) {
+            lastLikeCount = workoutPostMapper.findLikeCount(lastPostId);
+        }
+
+        // 현재 사용자 ID (로그인하지 않은 경우 null, 좋아요 여부는 모두 false)
+        Long currentUserId = null;
+        try {
+            currentUserId = securityUtils.getCurrentUserId();
+        } catch (Exception e) {
+            // 로그인하지 않은 경우 무시
+        }
+
+        // 좋아요 순으로 정렬하여 조회 (작성자, 좋아요 여부 포함)
+        List<WorkoutPostFeed> posts = workoutPostMapper.findPopularFeed(lastLikeCount, lastPostId, adjustedSize, currentUserId);
 
         // 결과가 없는 경우
         if (posts.isEmpty()) {
@@ -283,6 +348,7 @@ public class WorkoutPostService {
                     .posts(new ArrayList<>())
                     .hasNext(false)
                     .lastPostId(lastPostId)
+                    .lastLikeCount(lastLikeCount)
                     .totalPages(0)
                     .currentPage(0)
                     .totalItems(0)
@@ -297,38 +363,19 @@ public class WorkoutPostService {
             posts = posts.subList(0, size);
         }
 
-        // 마지막 게시글 ID 추출
-        Long newLastPostId = posts.isEmpty() ? lastPostId : posts.get(posts.size() - 1).getPostId();
+        // 마지막 게시글의 (좋아요 수, ID) 추출
+        WorkoutPostFeed lastPost = posts.get(posts.size() - 1);
+        Long newLastPostId = lastPost.getPostId();
+        Integer newLastLikeCount = lastPost.getLikeCount();
 
         // WorkoutPostResponse 객체로 변환
-        List<WorkoutPostResponse> responseList = new ArrayList<>();
-        Long currentUserId = null;
-        try {
-            currentUserId = securityUtils.getCurrentUserId();
-        } catch (Exception e) {
-            // 로그인하지 않은 경우 무시
-        }
-
-        for (WorkoutPost post : posts) {
-            User author = userMapper.findById(post.getUserId());
-            String authorName = (author != null) ? author.getNickname() : "알 수 없음";
-
-            boolean likedByUser = false;
-            if (currentUserId != null) {
-                likedByUser = postLikeService.checkUserLiked(post.getPostId(), currentUserId);
-            }
-
-            responseList.add(WorkoutPostResponse.builder()
-                    .workoutPost(post)
-                    .authorName(authorName)
-                    .likedByUser(likedByUser)
-                    .build());
-        }
+        List<WorkoutPostResponse> responseList = toFeedResponses(posts);
 
         return WorkoutPostListResponse.builder()
                 .posts(responseList)  // WorkoutPostResponse 객체 리스트로 변경
                 .hasNext(hasNext)
                 .lastPostId(newLastPostId)
+                .lastLikeCount(newLastLikeCount)
                 .totalPages(0)
                 .currentPage(0)
                 .totalItems(responseList.size())
@@ -337,16 +384,19 @@ public class WorkoutPostService {
 
     // 내가 쓴 게시글 목록 조회
     public WorkoutPostListResponse getUserPosts(Long userId, Long lastPostId, int size) {
+        Long currentUserId = securityUtils.getCurrentUserId();
+
         // 요청한 사용자 ID가 없으면 현재 로그인한 사용자 ID 사용
         if (userId == null) {
-            userId = securityUtils.getCurrentUserId();
+            userId = currentUserId;
         }
 
-        // 다음 페이지 확인을 위해 size+1개 요청
+        // 다음 페이지 확인을 위해 size+1개 요청 (size가 1 이상이므로 잘라낸 뒤에도 마지막 게시글이 있음)
+        size = CursorPageResponse.normalizeSize(size);
         int adjustedSize = size + 1;
 
-        // 특정 사용자의 게시글 조회
-        List<WorkoutPost> posts = workoutPostMapper.findAllByUserId(userId, lastPostId, adjustedSize);
+        // 특정 사용자의 게시글 조회 (작성자, 좋아요 여부 포함)
+        List<WorkoutPostFeed> posts = workoutPostMapper.findFeed(lastPostId, adjustedSize, null, userId, currentUserId);
 
         // 결과가 없는 경우
         if (posts.isEmpty()) {
@@ -369,24 +419,10 @@ public class WorkoutPostService {
         }
 
         // 마지막 게시글 ID 추출
-        Long newLastPostId = posts.isEmpty() ? lastPostId : posts.get(posts.size() - 1).getPostId();
+        Long newLastPostId = posts.get(posts.size() - 1).getPostId();
 
         // WorkoutPostResponse 객체로 변환
-        List<WorkoutPostResponse> responseList = new ArrayList<>();
-        Long currentUserId = securityUtils.getCurrentUserId();
-
-        for (WorkoutPost post : posts) {
-            User author = userMapper.findById(post.getUserId());
-            String authorName = (author != null) ? author.getNickname() : "알 수 없음";
-
-            boolean likedByUser = postLikeService.checkUserLiked(post.getPostId(), currentUserId);
-
-            responseList.add(WorkoutPostResponse.builder()
-                    .workoutPost(post)
-                    .authorName(authorName)
-                    .likedByUser(likedByUser)
-                    .build());
-        }
+        List<WorkoutPostResponse> responseList = toFeedResponses(posts);
 
         return WorkoutPostListResponse.builder()
                 .posts(responseList)  // WorkoutPostResponse 객체 리스트로 변경
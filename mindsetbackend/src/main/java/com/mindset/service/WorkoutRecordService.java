@@ -1,13 +1,23 @@
 package com.mindset.service;
 
+import com.mindset.mapper.RecordRollupMapper;
 import com.mindset.mapper.WorkoutRecordMapper;
+import com.mindset.model.dto.WorkoutDailyRollup;
 import com.mindset.model.dto.WorkoutRecord;
 import com.mindset.model.request.WorkoutRecordRequest;
+import com.mindset.model.response.CursorPageResponse;
 import com.mindset.model.response.WorkoutRecordResponse;
+import com.mindset.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,8 +26,15 @@ import java.util.List;
 public class WorkoutRecordService {
 
     private final WorkoutRecordMapper workRecordMapper;
+    private final RecordRollupMapper recordRollupMapper;
+    private final SecurityUtils securityUtils;
+
+    // 일별 합계 조회 최대 기간 (일)
+    @Value("${records.rollup.max-days:366}")
+    private long maxRollupDays;
 
     // 생성
+    @Transactional
     public WorkoutRecordResponse createWorkRecord(WorkoutRecordRequest workoutRecordRequest) {
         // WorkoutRecord 객체 생성
         WorkoutRecord workoutRecord = new WorkoutRecord();
@@ -34,6 +51,9 @@ public class WorkoutRecordService {
         // DB에 데이터 저장
         workRecordMapper.createWorkRecord(workoutRecord);
 
+        // 일별 합계에 반영
+        recordRollupMapper.addWorkoutRollup(toRollupDelta(workoutRecord, 1));
+
         // 응답 생성
         return WorkoutRecordResponse.builder()
                 .workoutRecord(workoutRecord)
@@ -51,6 +71,28 @@ public class WorkoutRecordService {
         return workoutRecordResponses;
     }
 
+    // 사용자별 기록 조회 (무한 스크롤, 커서 기반 페이징, 운동 날짜 기준 기간 필터)
+    public CursorPageResponse<WorkoutRecordResponse> getWorkRecordPage(Long userId, Long lastId, LocalDateTime lastDate, int size,
+                                                                       LocalDate from, LocalDate to) {
+        // 본인 기록만 조회 가능
+        securityUtils.checkCurrentUser(userId);
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        if ((from != null || to != null) && lastId != null && lastDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "기간 조회의 다음 페이지는 lastDate가 필요합니다.");
+        }
+
+        // 다음 페이지 확인을 위해 size+1개 요청
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<WorkoutRecord> workoutRecords = workRecordMapper.findPageByUserId(userId, lastId,
+                lastDate != null ? lastDate.toLocalDate() : null, pageSize + 1, from, to);
+        return CursorPageResponse.of(workoutRecords, pageSize, WorkoutRecord::getWorkoutId,
+                record -> record.getWorkoutDate() != null ? record.getWorkoutDate().atStartOfDay() : null,
+                WorkoutRecordResponse::new);
+    }
+
     // 상세 보기
     public WorkoutRecordResponse getWorkRecord(Long workoutId){
         WorkoutRecord workoutRecord = workRecordMapper.findByWorkRecordId(workoutId);
@@ -58,7 +100,44 @@ public class WorkoutRecordService {
     }
 
     // 삭제
+    @Transactional
     public void deleteWorkRecord(Long workoutId){
-        workRecordMapper.deleteWorkRecord(workoutId);
+        WorkoutRecord workoutRecord = workRecordMapper.findByWorkRecordId(workoutId);
+        if (workoutRecord == null) {
+            return;
+        }
+
+        // 실제로 삭제한 경우에만 일별 합계에서 제외 (동시에 삭제 요청이 와도 한 번만 반영)
+        if (workRecordMapper.deleteWorkRecord(workoutId) > 0) {
+            recordRollupMapper.addWorkoutRollup(toRollupDelta(workoutRecord, -1));
+        }
+    }
+
+    // 기간 내 일별/운동 종류별 합계 (기록 수가 아닌 날짜 수에 비례)
+    public List<WorkoutDailyRollup> getDailyRollups(Long userId, LocalDate from, LocalDate to) {
+        // 본인 기록만 조회 가능
+        securityUtils.checkCurrentUser(userId);
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= maxRollupDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        return recordRollupMapper.findWorkoutRollups(userId, start, end);
+    }
+
+    // 기록 하나의 일별 합계 증감분 (날짜가 없으면 생성일 기준)
+    private WorkoutDailyRollup toRollupDelta(WorkoutRecord workoutRecord, int sign) {
+        LocalDate workoutDate = workoutRecord.getWorkoutDate() != null
+                ? workoutRecord.getWorkoutDate()
+                : workoutRecord.getCreatedAt().toLocalDate();
+        return WorkoutDailyRollup.builder()
+                .userId(workoutRecord.getUserId())
+                .statDate(workoutDate)
+                .workoutType(workoutRecord.getWorkoutType() != null ? workoutRecord.getWorkoutType() : "")
+                .totalMinutes(sign * workoutRecord.getDuration())
+                .totalCalories(sign * workoutRecord.getCalories())
+                .recordCount(sign)
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.mindset.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 업로드 파일 저장소 SPI
+ * 키는 "하위 디렉토리/파일명" 형식의 상대 경로이며, 로컬 디스크(storage.type=local, 기본값)와
+ * S3 호환 저장소(storage.type=s3) 구현이 있다. 직접 업로드는 {@link PresignedUploadStorage}를 함께 구현한 저장소만 지원한다.
+ */
+public interface FileStorage {
+
+    /**
+     * 업로드 내용을 받아 둘 임시 파일 생성 (put으로 넘기기 전까지 사용)
+     */
+    Path createTempFile(String directory) throws IOException;
+
+    /**
+     * 임시 파일을 키 위치에 저장
+     * 이미 같은 키가 있으면 (내용 주소이므로 같은 내용) 수정 시각만 갱신한다. 임시 파일은 호출 후 남아 있지 않다.
+     */
+    void put(String key, Path tempFile, String contentType) throws IOException;
+
+    /**
+     * 수정 시각 갱신 (정리 작업의 유예 기간을 다시 시작)
+     */
+    void touch(String key) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 파일 정보 조회 (없으면 empty)
+     */
+    Optional<StorageObject> stat(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 하위 디렉토리의 모든 파일 순회
+     */
+    void list(String directory, Consumer<StorageObject> consumer) throws IOException;
+
+    /**
+     * 클라이언트가 직접 내려받을 URL (null이면 /uploads/** 에서 서버가 직접 제공)
+     */
+    String getPublicUrl(String key);
+}
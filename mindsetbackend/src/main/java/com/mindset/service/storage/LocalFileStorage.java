@@ -0,0 +1,122 @@
+package com.mindset.service.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 디스크 저장소 (file.upload-dir 아래에 저장, /uploads/** 로 제공)
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileStorage implements FileStorage {
+
+    private final Path root;
+
+    public LocalFileStorage(@Value("${file.upload-dir:uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Path createTempFile(String directory) throws IOException {
+        // 원자적 이동이 가능하도록 최종 위치와 같은 디렉토리에 생성
+        Path directoryPath = resolve(directory);
+        Files.createDirectories(directoryPath);
+        return Files.createTempFile(directoryPath, ".upload-", ".tmp");
+    }
+
+    @Override
+    public void put(String key, Path tempFile, String contentType) throws IOException {
+        Path target = resolve(key);
+        try {
+            if (Files.exists(target)) {
+                touch(key);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public void touch(String key) throws IOException {
+        Files.setLastModifiedTime(resolve(key), FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) throws IOException {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        return Optional.of(new StorageObject(key, attrs.size(), attrs.lastModifiedTime().toMillis()));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public void list(String directory, Consumer<StorageObject> consumer) throws IOException {
+        Path directoryPath = resolve(directory);
+        if (!Files.isDirectory(directoryPath)) {
+            return;
+        }
+
+        Files.walkFileTree(directoryPath, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    String key = root.relativize(file).toString().replace('\\', '/');
+                    consumer.accept(new StorageObject(key, attrs.size(), attrs.lastModifiedTime().toMillis()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                // 순회 중 사라진 파일 등은 건너뜀
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public String getPublicUrl(String key) {
+        return null;
+    }
+
+    /**
+     * 키를 업로드 디렉토리 안의 경로로 변환 (디렉토리 밖을 가리키면 거부)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+}
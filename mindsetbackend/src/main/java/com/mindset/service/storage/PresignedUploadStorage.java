@@ -0,0 +1,17 @@
+package com.mindset.service.storage;
+
+import com.mindset.model.response.PresignedUploadResponse;
+
+/**
+ * 클라이언트가 서버를 거치지 않고 직접 올릴 수 있는 저장소 (사전 서명 업로드 URL 발급)
+ * S3 호환 저장소만 구현하며, 로컬 디스크 저장소는 서버를 통해서만 업로드한다.
+ */
+public interface PresignedUploadStorage {
+
+    /**
+     * 직접 업로드용 사전 서명 URL 생성 (저장소가 SHA-256 체크섬으로 내용을 검증)
+     *
+     * @param sha256Base64 업로드할 내용의 SHA-256 (Base64)
+     */
+    PresignedUploadResponse presignUpload(String key, String contentType, long size, String sha256Base64);
+}
@@ -0,0 +1,401 @@
+package com.mindset.service.storage;
+
+import com.mindset.model.response.PresignedUploadResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * S3 호환 저장소 (AWS S3, MinIO 등)
+ * 큰 파일은 멀티파트로 나눠 올리고, 클라이언트가 서버를 거치지 않고 올릴 수 있도록 사전 서명 PUT URL을 발급한다.
+ * 키가 내용의 SHA-256이므로 객체는 바뀌지 않으며, immutable Cache-Control로 저장한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3FileStorage implements FileStorage, PresignedUploadStorage {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final String publicBaseUrl;
+    private final Duration presignExpiry;
+    private final long multipartThreshold;
+    private final long partSize;
+
+    public S3FileStorage(@Value("${storage.s3.bucket}") String bucket,
+                         @Value("${storage.s3.region:ap-northeast-2}") String region,
+                         @Value("${storage.s3.endpoint:}") String endpoint,
+                         @Value("${storage.s3.access-key:}") String accessKey,
+                         @Value("${storage.s3.secret-key:}") String secretKey,
+                         @Value("${storage.s3.path-style-access:false}") boolean pathStyleAccess,
+                         @Value("${storage.s3.public-base-url:}") String publicBaseUrl,
+                         @Value("${storage.s3.presign-expiry-seconds:600}") long presignExpirySeconds,
+                         @Value("${storage.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+                         @Value("${storage.s3.part-size-bytes:8388608}") long partSize) {
+        this.bucket = bucket;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/")
+                ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1)
+                : publicBaseUrl;
+        this.presignExpiry = Duration.ofSeconds(presignExpirySeconds);
+        this.multipartThreshold = Math.max(multipartThreshold, MIN_PART_SIZE);
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+
+        // 액세스 키가 없으면 환경 변수, 인스턴스 프로파일 등 기본 자격 증명 사용
+        AwsCredentialsProvider credentialsProvider = accessKey.isEmpty()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+
+        S3Client.Builder clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider)
+                .serviceConfiguration(serviceConfiguration);
+
+        // MinIO 등 S3 호환 저장소 주소
+        if (!endpoint.isEmpty()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+
+        this.s3Client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        log.info("S3 저장소 사용 - bucket: {}, endpoint: {}", bucket, endpoint.isEmpty() ? "AWS" : endpoint);
+    }
+
+    @Override
+    public Path createTempFile(String directory) throws IOException {
+        // 업로드 내용은 로컬 임시 디렉토리에 받아 두었다가 put에서 올림
+        return Files.createTempFile("mindset-upload-", ".tmp");
+    }
+
+    @Override
+    public void put(String key, Path tempFile, String contentType) throws IOException {
+        try {
+            // 같은 내용이 이미 있으면 다시 올리지 않음
+            if (stat(key).isPresent()) {
+                touch(key);
+                return;
+            }
+
+            long size = Files.size(tempFile);
+            if (size >= multipartThreshold) {
+                putMultipart(key, tempFile, size, contentType);
+            } else {
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .contentType(contentType)
+                                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                                .build(),
+                        RequestBody.fromFile(tempFile));
+            }
+        } catch (SdkException | UncheckedIOException e) {
+            throw new IOException("S3 업로드 실패: " + key, e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 (파트마다 파일 구간을 스트림으로 읽어 올리므로 파일 전체를 메모리에 올리지 않음)
+     * 실패하면 업로드를 중단해 남은 파트가 저장소에 쌓이지 않게 한다.
+     */
+    private void putMultipart(String key, Path file, long size, String contentType) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                long partOffset = offset;
+                long partLength = Math.min(partSize, size - offset);
+
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength(partLength)
+                                .build(),
+                        // 재시도 시 새 스트림을 열 수 있도록 스트림 제공자로 전달
+                        RequestBody.fromContentProvider(() -> openRange(file, partOffset, partLength),
+                                partLength, "application/octet-stream")).eTag();
+
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("S3 멀티파트 업로드 완료: {} ({} parts, {} bytes)", key, parts.size(), size);
+        } catch (RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (SdkException abortError) {
+                log.warn("S3 멀티파트 업로드 중단 실패: {}, {}", key, abortError.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void touch(String key) throws IOException {
+        try {
+            // 자기 자신으로 복사해 수정 시각 갱신 (메타데이터는 그대로 유지)
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(key)
+                    .destinationBucket(bucket)
+                    .destinationKey(key)
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .contentType(head.contentType())
+                    .cacheControl(head.cacheControl())
+                    .metadata(head.metadata())
+                    .build());
+        } catch (SdkException e) {
+            throw new IOException("S3 수정 시각 갱신 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("S3 다운로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new StorageObject(key, head.contentLength(), head.lastModified().toEpochMilli()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            // HEAD 응답에는 본문이 없어 404가 NoSuchKeyException으로 오지 않을 수 있음
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 조회 실패: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("S3 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("S3 삭제 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void list(String directory, Consumer<StorageObject> consumer) throws IOException {
+        try {
+            ListObjectsV2Request request = ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(directory + "/")
+                    .build();
+            s3Client.listObjectsV2Paginator(request).contents().forEach(object -> consumer.accept(
+                    new StorageObject(object.key(), object.size(), object.lastModified().toEpochMilli())));
+        } catch (SdkException e) {
+            throw new IOException("S3 목록 조회 실패: " + directory, e);
+        }
+    }
+
+    @Override
+    public String getPublicUrl(String key) {
+        // 공개 주소(CDN 등)가 있으면 그대로, 없으면 짧게 유효한 사전 서명 GET URL
+        if (!publicBaseUrl.isEmpty()) {
+            return publicBaseUrl + "/" + key;
+        }
+
+        return presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(presignExpiry)
+                .getObjectRequest(GetObjectRequest.builder().bucket(bucket).key(key).build())
+                .build()).url().toString();
+    }
+
+    @Override
+    public PresignedUploadResponse presignUpload(String key, String contentType, long size, String sha256Base64) {
+        // 체크섬과 크기를 서명에 포함해, 다른 내용을 올리면 저장소가 거부하도록 함 (키와 내용이 항상 일치)
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignExpiry)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                        .checksumSHA256(sha256Base64)
+                        .build())
+                .build());
+
+        // 브라우저가 직접 설정하는 헤더(host, content-length)는 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name) && !"content-length".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return PresignedUploadResponse.builder()
+                .key(key)
+                .uploadRequired(true)
+                .uploadUrl(presigned.url().toString())
+                .method(presigned.httpRequest().method().name())
+                .headers(headers)
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    /**
+     * 파일의 [offset, offset + length) 구간을 읽는 스트림
+     */
+    private static InputStream openRange(Path file, long offset, long length) {
+        try {
+            FileChannel channel = FileChannel.open(file);
+            channel.position(offset);
+            return new RangeInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지정한 길이까지만 읽는 스트림
+     */
+    private static class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read != -1) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        presigner.close();
+        s3Client.close();
+    }
+}
@@ -0,0 +1,13 @@
+package com.mindset.service.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 저장소에 있는 파일 정보
+@Data
+@AllArgsConstructor
+public class StorageObject {
+    private String key;             // 업로드 디렉토리(버킷) 기준 상대 경로
+    private long size;              // 파일 크기 (바이트)
+    private long lastModified;      // 마지막 수정 시각 (epoch millis)
+}
@@ -0,0 +1,110 @@
+-- 스키마 변경 사항 (운영 DB에 수동으로 적용)
+
+-- 인기 게시글 목록 커서 페이징용 인덱스
+-- ORDER BY like_count DESC, post_id DESC 와 (like_count, post_id) 커서 조건을 인덱스 역방향 범위 스캔으로 처리한다
+CREATE INDEX idx_workout_posts_like_count_post_id ON workout_posts (like_count, post_id);
+
+-- 중복 좋아요 정리 (유니크 키 추가 전 1회 실행, 같은 (post_id, user_id) 중 like_id가 가장 작은 행만 남김)
+DELETE l1 FROM post_likes l1
+JOIN post_likes l2
+  ON l1.post_id = l2.post_id
+ AND l1.user_id = l2.user_id
+ AND l1.like_id > l2.like_id;
+
+-- 좋아요 중복 방지 (이미 있다면 생략)
+-- 좋아요 토글의 INSERT IGNORE 가 이 유니크 키에 의존한다
+ALTER TABLE post_likes ADD UNIQUE KEY uk_post_likes_post_user (post_id, user_id);
+
+-- 기존에 어긋난 좋아요 수 보정 (1회 실행)
+UPDATE workout_posts p
+SET like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.post_id);
+
+-- 소셜 로그인 사용자 조회용 인덱스 (findByOAuthProviderId, findByOAuth)
+CREATE INDEX idx_users_oauth_provider_id ON users (oauth_provider_id, oauth_provider);
+
+-- 무효화된 JWT 토큰 (로그아웃, 리프레시 토큰 교체)
+-- 서버 시작 시 만료 전 항목을 메모리로 읽어 JwtRequestFilter 에서 DB 조회 없이 확인한다
+CREATE TABLE revoked_tokens (
+    token_id   VARCHAR(36) NOT NULL PRIMARY KEY,
+    user_id    BIGINT      NULL,
+    expires_at DATETIME    NOT NULL,
+    revoked_at DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_revoked_tokens_expires_at (expires_at)
+);
+
+-- 업로드 파일 내용 주소(SHA-256) 저장소의 참조 수
+-- 같은 내용의 파일은 하나만 저장하고 게시글/프로필이 참조하는 수를 센다 (참조 수 0인 파일은 정리 대상)
+CREATE TABLE file_blobs (
+    path       VARCHAR(255) NOT NULL PRIMARY KEY,
+    sha256     CHAR(64)     NOT NULL,
+    size       BIGINT       NOT NULL,
+    ref_count  INT          NOT NULL DEFAULT 0,
+    created_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_file_blobs_ref_count_updated_at (ref_count, updated_at)
+);
+
+-- 사용자별 일별 공부 합계 (과목별)
+-- 공부 기록 생성/삭제 시 증감분을 반영하며, 차트는 기록 수가 아닌 날짜 수만큼만 읽는다
+-- 날짜는 시작 시간 기준 (없으면 생성일), 과목이 없으면 빈 문자열
+CREATE TABLE study_daily_rollups (
+    user_id       BIGINT       NOT NULL,
+    stat_date     DATE         NOT NULL,
+    subject       VARCHAR(100) NOT NULL,
+    total_minutes INT          NOT NULL DEFAULT 0,
+    record_count  INT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, stat_date, subject)
+);
+
+-- 사용자별 일별 운동 합계 (운동 종류별)
+CREATE TABLE workout_daily_rollups (
+    user_id        BIGINT       NOT NULL,
+    stat_date      DATE         NOT NULL,
+    workout_type   VARCHAR(100) NOT NULL,
+    total_minutes  INT          NOT NULL DEFAULT 0,
+    total_calories INT          NOT NULL DEFAULT 0,
+    record_count   INT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, stat_date, workout_type)
+);
+
+-- 기존 기록으로 일별 합계 채우기 (1회 실행)
+INSERT INTO study_daily_rollups (user_id, stat_date, subject, total_minutes, record_count)
+SELECT user_id, DATE(COALESCE(start_time, created_at)), COALESCE(subject, ''), SUM(duration), COUNT(*)
+FROM study_records
+GROUP BY user_id, DATE(COALESCE(start_time, created_at)), COALESCE(subject, '');
+
+INSERT INTO workout_daily_rollups (user_id, stat_date, workout_type, total_minutes, total_calories, record_count)
+SELECT user_id, COALESCE(workout_date, DATE(created_at)), COALESCE(workout_type, ''), SUM(duration), SUM(calories), COUNT(*)
+FROM workout_records
+GROUP BY user_id, COALESCE(workout_date, DATE(created_at)), COALESCE(workout_type, '');
+
+-- 사용자별 커서 페이징 인덱스 (WHERE user_id = ? AND id < ? ORDER BY id DESC LIMIT ? 를 인덱스 역방향 범위 스캔으로 처리)
+CREATE INDEX idx_study_records_user_id_record_id ON study_records (user_id, record_id);
+CREATE INDEX idx_workout_records_user_id_workout_id ON workout_records (user_id, workout_id);
+CREATE INDEX idx_todolist_user_id_todo_id ON todolist (user_id, todo_id);
+CREATE INDEX idx_memos_user_id_memo_id ON memos (user_id, memo_id);
+
+-- 기간을 지정한 커서 페이징 인덱스 (WHERE user_id = ? AND 날짜 범위 ORDER BY 날짜 DESC, id DESC LIMIT ? 를 범위 스캔으로 처리)
+CREATE INDEX idx_study_records_user_id_created_at ON study_records (user_id, created_at, record_id);
+CREATE INDEX idx_workout_records_user_id_workout_date ON workout_records (user_id, workout_date, workout_id);
+CREATE INDEX idx_todolist_user_id_created_at ON todolist (user_id, created_at, todo_id);
+CREATE INDEX idx_memos_user_id_created_at ON memos (user_id, created_at, memo_id);
+
+-- 내용 주소 저장 이전에 올라온 파일도 참조 수로 관리되도록 현재 참조 수를 등록 (이미 등록된 파일은 그대로 둠)
+INSERT IGNORE INTO file_blobs (path, sha256, size, ref_count)
+SELECT image_url, '', 0, COUNT(*)
+FROM workout_posts
+WHERE image_url IS NOT NULL AND image_url <> '' AND image_url NOT LIKE 'http%'
+GROUP BY image_url;
+
+INSERT IGNORE INTO file_blobs (path, sha256, size, ref_count)
+SELECT CONCAT('profile-images/', profile_image), '', 0, COUNT(*)
+FROM users
+WHERE profile_image IS NOT NULL AND profile_image <> '' AND profile_image <> 'default.png'
+AND profile_image NOT LIKE 'http%'
+GROUP BY profile_image;
+
+-- 공부 기록의 기간 조회와 일별 합계가 같은 기준(시작 시간, 없으면 생성일)을 쓰도록 공부 일시 컬럼 추가
+ALTER TABLE study_records ADD COLUMN studied_at DATETIME AS (COALESCE(start_time, created_at)) STORED;
+DROP INDEX idx_study_records_user_id_created_at ON study_records;
+CREATE INDEX idx_study_records_user_id_studied_at ON study_records (user_id, studied_at, record_id);
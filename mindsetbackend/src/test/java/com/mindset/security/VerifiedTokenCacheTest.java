@@ -0,0 +1,103 @@
+package com.mindset.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증된 토큰 캐시 테스트
+ */
+class VerifiedTokenCacheTest {
+
+    @Test
+    void sameTokenIsVerifiedOnce() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        CountingVerifier verifier = new CountingVerifier(new Date(System.currentTimeMillis() + 60_000));
+
+        Authentication first = cache.get("token-a", verifier);
+        Authentication second = cache.get("token-a", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifier.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, Authentication> rejecting = token -> {
+            calls.incrementAndGet();
+            return null;
+        };
+
+        assertThat(cache.get("bad", rejecting)).isNull();
+        assertThat(cache.get("bad", rejecting)).isNull();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredOrUnknownExpiryIsNotReused() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        CountingVerifier expired = new CountingVerifier(new Date(System.currentTimeMillis() - 1_000));
+        CountingVerifier noExpiry = new CountingVerifier(null);
+
+        cache.get("expired", expired);
+        cache.get("expired", expired);
+        cache.get("no-exp", noExpiry);
+        cache.get("no-exp", noExpiry);
+
+        assertThat(expired.calls.get()).isEqualTo(2);
+        assertThat(noExpiry.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateForcesReverification() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        CountingVerifier verifier = new CountingVerifier(new Date(System.currentTimeMillis() + 60_000));
+
+        cache.get("token-a", verifier);
+        cache.invalidate("token-a");
+        cache.get("token-a", verifier);
+
+        assertThat(verifier.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void disabledCacheAlwaysVerifies() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100);
+        CountingVerifier verifier = new CountingVerifier(new Date(System.currentTimeMillis() + 60_000));
+
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+
+        assertThat(verifier.calls.get()).isEqualTo(2);
+    }
+
+    // 호출 횟수를 세고 주어진 만료 시각의 인증 정보를 만드는 검증기
+    private static class CountingVerifier implements Function<String, Authentication> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Date expiresAt;
+
+        CountingVerifier(Date expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public Authentication apply(String token) {
+            calls.incrementAndGet();
+            List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+            JwtUserPrincipal principal = new JwtUserPrincipal("user@mindset.test", authorities,
+                    1L, null, "tester", token, expiresAt);
+            return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        }
+    }
+}
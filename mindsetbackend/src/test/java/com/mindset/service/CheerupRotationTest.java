@@ -0,0 +1,78 @@
+package com.mindset.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자별 명언 순환 테스트
+ * 한 바퀴 동안 모든 위치가 정확히 한 번씩 나오고, 바퀴가 바뀔 때 직전 명언이 바로 다시 나오지 않아야 한다.
+ */
+class CheerupRotationTest {
+
+    // 순환마다 곱수와 시작 위치가 무작위이므로 여러 바퀴를 돌려 확인
+    private static final int CYCLES = 50;
+
+    @Test
+    void everyIndexAppearsExactlyOncePerCycle() {
+        for (int size = 1; size <= 64; size++) {
+            CheerupRotation rotation = CheerupRotation.start(size, -1);
+            for (int cycle = 0; cycle < CYCLES; cycle++) {
+                Set<Integer> seen = new HashSet<>();
+                for (int i = 0; i < size; i++) {
+                    int index = rotation.currentIndex();
+                    assertThat(index).isBetween(0, size - 1);
+                    assertThat(seen.add(index))
+                            .as("size=%d, cycle=%d: %d가 한 바퀴 안에서 다시 나옴", size, cycle, index)
+                            .isTrue();
+                    rotation = rotation.next(size);
+                }
+                assertThat(seen).hasSize(size);
+            }
+        }
+    }
+
+    @Test
+    void lastMessageIsNotRepeatedAcrossCycleBoundary() {
+        for (int size = 2; size <= 64; size++) {
+            CheerupRotation rotation = CheerupRotation.start(size, -1);
+            for (int cycle = 0; cycle < CYCLES; cycle++) {
+                for (int i = 0; i < size - 1; i++) {
+                    rotation = rotation.next(size);
+                }
+                int lastOfCycle = rotation.currentIndex();
+
+                rotation = rotation.next(size);
+                assertThat(rotation.currentIndex())
+                        .as("size=%d, cycle=%d", size, cycle)
+                        .isNotEqualTo(lastOfCycle);
+            }
+        }
+    }
+
+    @Test
+    void startAvoidsGivenLastIndex() {
+        for (int size = 2; size <= 64; size++) {
+            for (int lastIndex = 0; lastIndex < size; lastIndex++) {
+                assertThat(CheerupRotation.start(size, lastIndex).currentIndex()).isNotEqualTo(lastIndex);
+            }
+        }
+    }
+
+    @Test
+    void sizeChangeStartsNewCycleOverNewSize() {
+        CheerupRotation rotation = CheerupRotation.start(10, -1).next(10).next(10);
+
+        Set<Integer> seen = new HashSet<>();
+        rotation = rotation.next(7);
+        for (int i = 0; i < 7; i++) {
+            seen.add(rotation.currentIndex());
+            rotation = rotation.next(7);
+        }
+
+        assertThat(seen).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6);
+    }
+}
@@ -0,0 +1,149 @@
+package com.mindset.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 증감분 버퍼 테스트 (DB 없이 반영 내용을 메모리에 기록)
+ */
+class CountDeltaBufferTest {
+
+    @Test
+    void concurrentAddsAreFlushedExactlyOnce() throws Exception {
+        RecordingBuffer buffer = new RecordingBuffer(1000);
+        int threads = 8;
+        int addsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // 같은 게시글 몇 개에 몰아서 누적하는 동안 반영도 계속 실행
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < addsPerThread; i++) {
+                        assertThat(buffer.tryAdd((long) (i % 3), 1)).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    buffer.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        buffer.flush();
+
+        long total = buffer.written.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * addsPerThread);
+        for (long postId = 0; postId < 3; postId++) {
+            assertThat(buffer.getPendingDelta(postId)).isZero();
+        }
+    }
+
+    @Test
+    void failedWriteIsRetriedOnNextFlush() {
+        RecordingBuffer buffer = new RecordingBuffer(10);
+        buffer.tryAdd(1L, 3);
+        buffer.failNextWrite = true;
+
+        buffer.flush();
+        assertThat(buffer.written).isEmpty();
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(3);
+
+        buffer.flush();
+        assertThat(buffer.written).containsEntry(1L, 3L);
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+    }
+
+    @Test
+    void deltasAddedDuringWriteAreKept() {
+        RecordingBuffer buffer = new RecordingBuffer(10);
+        buffer.tryAdd(1L, 2);
+        buffer.onWrite = deltas -> buffer.tryAdd(1L, 5);
+
+        buffer.flush();
+        buffer.onWrite = deltas -> { };
+        assertThat(buffer.written).containsEntry(1L, 2L);
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(5);
+
+        buffer.flush();
+        assertThat(buffer.written).containsEntry(1L, 7L);
+    }
+
+    @Test
+    void deltasThatCancelOutAreNotWritten() {
+        RecordingBuffer buffer = new RecordingBuffer(10);
+        buffer.tryAdd(1L, 1);
+        buffer.tryAdd(1L, -1);
+
+        buffer.flush();
+
+        assertThat(buffer.writeCount).isZero();
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+    }
+
+    @Test
+    void fullBufferRejectsNewPostsButKeepsAcceptingKnownOnes() {
+        RecordingBuffer buffer = new RecordingBuffer(2);
+        assertThat(buffer.tryAdd(1L, 1)).isTrue();
+        assertThat(buffer.tryAdd(2L, 1)).isTrue();
+
+        assertThat(buffer.tryAdd(3L, 1)).isFalse();
+        assertThat(buffer.tryAdd(1L, 1)).isTrue();
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(2);
+        assertThat(buffer.getPendingDelta(3L)).isZero();
+
+        // 반영 후에는 다시 새 게시글을 받는다
+        buffer.flush();
+        assertThat(buffer.tryAdd(3L, 1)).isTrue();
+    }
+
+    // 반영한 증감분을 게시글별로 더해 두는 버퍼
+    private static class RecordingBuffer extends CountDeltaBuffer {
+
+        private final Map<Long, Long> written = new HashMap<>();
+        private int writeCount;
+        private boolean failNextWrite;
+        private Consumer<Map<Long, Long>> onWrite = deltas -> { };
+
+        RecordingBuffer(int maxPendingPosts) {
+            super(maxPendingPosts);
+        }
+
+        @Override
+        protected void writeDeltas(Map<Long, Long> deltas) {
+            if (failNextWrite) {
+                failNextWrite = false;
+                throw new IllegalStateException("반영 실패");
+            }
+            writeCount++;
+            onWrite.accept(deltas);
+            deltas.forEach((postId, delta) -> written.merge(postId, delta, Long::sum));
+        }
+    }
+}
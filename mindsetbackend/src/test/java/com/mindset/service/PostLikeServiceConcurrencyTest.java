@@ -0,0 +1,177 @@
+package com.mindset.service;
+
+import com.mindset.mapper.UserMapper;
+import com.mindset.mapper.WorkoutPostMapper;
+import com.mindset.model.dto.User;
+import com.mindset.model.dto.WorkoutPost;
+import com.mindset.model.request.PostLikeRequest;
+import com.mindset.security.JwtUserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 토글 동시성 테스트 (실제 MySQL 필요)
+ * 여러 사용자가 같은 게시글을 동시에 여러 번 토글해도 workout_posts.like_count가 post_likes 행 수와 같아야 한다.
+ * <p>
+ * 테스트용 DB에 행을 만들고 지우므로 기본 test 작업에서는 제외되고, MINDSET_IT_DB_URL을 지정해
+ * integrationTest 작업으로 실행한다 (스키마가 적용된 테스트 전용 DB를 가리켜야 한다).
+ * <pre>
+ * MINDSET_IT_DB_URL=jdbc:mysql://localhost:3306/mindset_test MINDSET_IT_DB_USERNAME=... MINDSET_IT_DB_PASSWORD=... ./gradlew integrationTest
+ * </pre>
+ */
+@Tag("integration")
+@EnabledIfEnvironmentVariable(named = "MINDSET_IT_DB_URL", matches = ".+")
+@SpringBootTest(properties = "jwt.secret=integration-test-secret-key-at-least-32-bytes-long")
+class PostLikeServiceConcurrencyTest {
+
+    // 50명 x 2스레드 x 30회 = 3,000번 토글
+    private static final int USER_COUNT = 50;
+    private static final int THREADS_PER_USER = 2;
+    private static final int TOGGLES_PER_THREAD = 30;
+
+    // 로컬 설정 대신 환경 변수로 지정한 테스트 DB 사용
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("MINDSET_IT_DB_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("MINDSET_IT_DB_USERNAME", "root"));
+        registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("MINDSET_IT_DB_PASSWORD", ""));
+    }
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private LikeCountAggregator likeCountAggregator;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private WorkoutPostMapper workoutPostMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = User.builder()
+                    .email("like-test-" + runId + "-" + i + "@mindset.test")
+                    .password("test")
+                    .nickname("like-test-" + i)
+                    .role("ROLE_USER")
+                    .build();
+            userMapper.save(user);
+            userIds.add(user.getUserId());
+        }
+
+        WorkoutPost post = WorkoutPost.builder()
+                .userId(userIds.get(0))
+                .title("좋아요 동시성 테스트")
+                .content("좋아요 동시성 테스트")
+                .workoutCategory("기타")
+                .viewCount(0)
+                .likeCount(0)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        workoutPostMapper.createWorkoutPost(post);
+        postId = post.getPostId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (postId != null) {
+            jdbcTemplate.update("DELETE FROM post_likes WHERE post_id = ?", postId);
+            jdbcTemplate.update("DELETE FROM workout_posts WHERE post_id = ?", postId);
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId);
+        }
+    }
+
+    @Test
+    void parallelTogglesKeepLikeCountInSyncWithPostLikes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT * THREADS_PER_USER);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // 사용자마다 여러 스레드가 동시에 토글 (같은 사용자의 토글끼리도 경합)
+            for (Long userId : userIds) {
+                for (int t = 0; t < THREADS_PER_USER; t++) {
+                    futures.add(executor.submit(() -> {
+                        authenticate(userId);
+                        try {
+                            start.await();
+                            for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                                postLikeService.toggleLike(PostLikeRequest.builder().postId(postId).build());
+                            }
+                        } finally {
+                            SecurityContextHolder.clearContext();
+                        }
+                        return null;
+                    }));
+                }
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 비동기 집계를 켠 경우 남은 증감분 반영
+        likeCountAggregator.flush();
+
+        Integer likeRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_likes WHERE post_id = ?", Integer.class, postId);
+        Integer likeCount = jdbcTemplate.queryForObject(
+                "SELECT like_count FROM workout_posts WHERE post_id = ?", Integer.class, postId);
+        Integer duplicateRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT user_id FROM post_likes WHERE post_id = ? "
+                        + "GROUP BY user_id HAVING COUNT(*) > 1) d", Integer.class, postId);
+
+        assertThat(duplicateRows).isZero();
+        assertThat(likeRows).isBetween(0, USER_COUNT);
+        assertThat(likeCount).isEqualTo(likeRows);
+    }
+
+    private void authenticate(Long userId) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        JwtUserPrincipal principal = new JwtUserPrincipal("like-test-" + userId, authorities,
+                userId, null, "like-test", UUID.randomUUID().toString(), null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+}
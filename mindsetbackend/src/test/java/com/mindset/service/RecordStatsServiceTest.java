@@ -0,0 +1,128 @@
+package com.mindset.service;
+
+import com.mindset.mapper.RecordRollupMapper;
+import com.mindset.model.dto.RecordStatsRow;
+import com.mindset.model.response.RecordStatsResponse;
+import com.mindset.security.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기록 기간 통계 테스트 (일별 합계 조회 결과를 구간별로 묶는 부분)
+ */
+@ExtendWith(MockitoExtension.class)
+class RecordStatsServiceTest {
+
+    private static final Long USER_ID = 3L;
+
+    @Mock
+    private RecordRollupMapper recordRollupMapper;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @InjectMocks
+    private RecordStatsService recordStatsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recordStatsService, "maxPeriods", 366L);
+    }
+
+    @Test
+    void weeklyStudyStatsAlignToMondayAndGroupByPeriod() {
+        // 2026-10-15는 목요일이므로 그 주 월요일(10-12)부터 조회
+        LocalDate monday = LocalDate.of(2026, 10, 12);
+        LocalDate nextMonday = LocalDate.of(2026, 10, 19);
+        LocalDate end = LocalDate.of(2026, 10, 21);
+        when(securityUtils.getCurrentUserId()).thenReturn(USER_ID);
+        when(recordRollupMapper.findStudyStats(USER_ID, monday, end, "week")).thenReturn(List.of(
+                row(monday, "수학", 60, null, 2),
+                row(monday, "영어", 30, null, 1),
+                row(nextMonday, "수학", 45, null, 1)));
+
+        RecordStatsResponse response = recordStatsService.getStudyStats(LocalDate.of(2026, 10, 15), end, "WEEK");
+
+        assertThat(response.getFrom()).isEqualTo(monday);
+        assertThat(response.getGranularity()).isEqualTo("week");
+        assertThat(response.getTotalMinutes()).isEqualTo(135);
+        assertThat(response.getRecordCount()).isEqualTo(4);
+        assertThat(response.getTotalCalories()).isNull();
+        assertThat(response.getPeriods()).hasSize(2);
+
+        RecordStatsResponse.Period first = response.getPeriods().get(0);
+        assertThat(first.getPeriodStart()).isEqualTo(monday);
+        assertThat(first.getTotalMinutes()).isEqualTo(90);
+        assertThat(first.getRecordCount()).isEqualTo(3);
+        assertThat(first.getBreakdown()).extracting(RecordStatsResponse.Breakdown::getCategory)
+                .containsExactly("수학", "영어");
+    }
+
+    @Test
+    void monthlyWorkoutStatsSumCalories() {
+        LocalDate october = LocalDate.of(2026, 10, 1);
+        LocalDate end = LocalDate.of(2026, 10, 18);
+        when(securityUtils.getCurrentUserId()).thenReturn(USER_ID);
+        when(recordRollupMapper.findWorkoutStats(USER_ID, october, end, "month")).thenReturn(List.of(
+                row(october, "러닝", 40, 300, 2),
+                row(october, "수영", 50, null, 1)));
+
+        RecordStatsResponse response = recordStatsService.getWorkoutStats(LocalDate.of(2026, 10, 9), end, "month");
+
+        assertThat(response.getTotalCalories()).isEqualTo(300);
+        assertThat(response.getPeriods()).hasSize(1);
+        assertThat(response.getPeriods().get(0).getTotalCalories()).isEqualTo(300);
+        assertThat(response.getPeriods().get(0).getBreakdown().get(1).getTotalCalories()).isZero();
+    }
+
+    @Test
+    void unknownGranularityIsRejected() {
+        assertThatThrownBy(() -> recordStatsService.getStudyStats(null, null, "year"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(recordRollupMapper);
+    }
+
+    @Test
+    void rangeLongerThanMaxPeriodsIsRejected() {
+        LocalDate end = LocalDate.of(2026, 10, 18);
+
+        assertThatThrownBy(() -> recordStatsService.getStudyStats(end.minusDays(366), end, "day"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(recordRollupMapper);
+    }
+
+    @Test
+    void reversedRangeIsRejected() {
+        assertThatThrownBy(() -> recordStatsService.getWorkoutStats(
+                LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 1), "day"))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(recordRollupMapper);
+    }
+
+    private RecordStatsRow row(LocalDate periodStart, String category, int minutes, Integer calories, int count) {
+        return RecordStatsRow.builder()
+                .periodStart(periodStart)
+                .category(category)
+                .totalMinutes(minutes)
+                .totalCalories(calories)
+                .recordCount(count)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.mindset.service;
+
+import com.mindset.mapper.UserMapper;
+import com.mindset.mapper.WorkoutPostMapper;
+import com.mindset.model.dto.WorkoutPostFeed;
+import com.mindset.model.response.WorkoutPostListResponse;
+import com.mindset.model.response.WorkoutPostResponse;
+import com.mindset.security.SecurityUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 목록 조회 쿼리 수 테스트
+ * 페이지 크기와 관계없이 목록 쿼리 한 번으로 작성자와 좋아요 여부까지 가져와야 하고, 게시글마다 추가 조회를 하면 안 된다.
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkoutPostServiceFeedTest {
+
+    private static final Long CURRENT_USER_ID = 7L;
+
+    @Mock
+    private WorkoutPostMapper workoutPostMapper;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private PostLikeService postLikeService;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @InjectMocks
+    private WorkoutPostService workoutPostService;
+
+    @Test
+    void allPostsPageUsesOneFeedQueryRegardlessOfSize() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
+        when(workoutPostMapper.findFeed(isNull(), eq(51), isNull(), isNull(), eq(CURRENT_USER_ID)))
+                .thenReturn(feedRows(100, 51));
+
+        WorkoutPostListResponse response = workoutPostService.getAllPosts(null, 50, null);
+
+        assertThat(response.getPosts()).hasSize(50);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getLastPostId()).isEqualTo(51L);
+        verify(workoutPostMapper, times(1)).findFeed(any(), anyInt(), any(), any(), any());
+        verifyNoInteractions(userMapper, postLikeService);
+    }
+
+    @Test
+    void feedRowsCarryAuthorLikeStateAndPreview() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
+        WorkoutPostFeed row = feedRow(10L);
+        row.setLiked(true);
+        row.setAuthorName("작성자");
+        when(workoutPostMapper.findFeed(isNull(), anyInt(), isNull(), isNull(), eq(CURRENT_USER_ID)))
+                .thenReturn(List.of(row));
+
+        WorkoutPostResponse post = workoutPostService.getAllPosts(null, 10, null).getPosts().get(0);
+
+        assertThat(post.isLikedByUser()).isTrue();
+        assertThat(post.getAuthorName()).isEqualTo("작성자");
+        assertThat(post.getContentPreview()).isEqualTo("미리보기 10");
+        assertThat(post.getWorkoutPost().getContent()).isNull();
+        verify(postLikeService, never()).checkUserLiked(anyLong(), anyLong());
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    void popularPostsClampsZeroSize() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
+        when(workoutPostMapper.findPopularFeed(isNull(), isNull(), eq(2), eq(CURRENT_USER_ID)))
+                .thenReturn(feedRows(20, 2));
+
+        WorkoutPostListResponse response = workoutPostService.getPopularPosts(null, null, 0);
+
+        assertThat(response.getPosts()).hasSize(1);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getLastPostId()).isEqualTo(20L);
+        verifyNoInteractions(userMapper, postLikeService);
+    }
+
+    // ID 내림차순 게시글 목록 (firstId부터 count개)
+    private List<WorkoutPostFeed> feedRows(long firstId, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> feedRow(firstId - i))
+                .collect(Collectors.toList());
+    }
+
+    private WorkoutPostFeed feedRow(Long postId) {
+        return WorkoutPostFeed.builder()
+                .postId(postId)
+                .userId(postId % 5 + 1)
+                .title("게시글 " + postId)
+                .contentPreview("미리보기 " + postId)
+                .workoutCategory("기타")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}